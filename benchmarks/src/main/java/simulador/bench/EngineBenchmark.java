@@ -0,0 +1,320 @@
+package simulador.bench;
+
+import simulador.clock.VirtualClock;
+import simulador.core.AsyncSimulationListener;
+import simulador.core.Simulator;
+import simulador.memory.FIFO;
+import simulador.memory.MemoryManager;
+import simulador.metrics.MetricsCollector;
+import simulador.process.Process;
+import simulador.scheduler.CPUScheduler;
+import simulador.workload.WorkloadGenerator;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Macrobenchmark del motor completo (planificador + memoria + E/S + métricas + listeners) con
+ * reloj virtual, sobre una carga generada con semilla fija. Cada variante se ejecuta varias veces
+ * sobre la misma carga y reporta ticks simulados por segundo, eventos por segundo, bytes asignados
+ * por tick (hilo de la simulación) y pausas de GC. El resultado se escribe en JSON para comparar
+ * corridas entre commits.
+ *
+ * Variantes:
+ *   none:  sin listeners ni log de Gantt
+ *   sync:  un listener síncrono que cuenta eventos
+ *   async: el mismo listener detrás de AsyncSimulationListener (BLOCK, no descarta eventos)
+ *
+ * java -cp benchmarks/target/benchmarks.jar simulador.bench.EngineBenchmark --processes 20000 --out engine.json
+ */
+public class EngineBenchmark {
+
+    private static final List<String> VARIANTS = List.of("none", "sync", "async");
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        long processes = 20000;
+        long seed = 42L;
+        String schedulerName = "RR";
+        int quantum = 4;
+        int cores = 1;
+        int frames = 256;
+        Simulator.EngineMode engineMode = Simulator.EngineMode.TICK;
+        int warmup = 2;
+        int runs = 5;
+        List<String> variants = VARIANTS;
+        String label = "";
+        String out = "engine-benchmark.json";
+
+        for (int i = 0; i < args.length; i++) {
+            String token = args[i];
+            if (i + 1 >= args.length) {
+                System.out.println("[EngineBenchmark] Missing value for " + token + " option.");
+                System.exit(1);
+            }
+            String value = args[++i];
+            switch (token) {
+                case "--processes":
+                    processes = Long.parseLong(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--scheduler":
+                    schedulerName = value.toUpperCase(Locale.ROOT);
+                    break;
+                case "--quantum":
+                    quantum = Integer.parseInt(value);
+                    break;
+                case "--cores":
+                    cores = Integer.parseInt(value);
+                    break;
+                case "--frames":
+                    frames = Integer.parseInt(value);
+                    break;
+                case "--engine":
+                    engineMode = value.equalsIgnoreCase("des") ? Simulator.EngineMode.DISCRETE_EVENT
+                            : Simulator.EngineMode.TICK;
+                    break;
+                case "--warmup":
+                    warmup = Integer.parseInt(value);
+                    break;
+                case "--runs":
+                    runs = Integer.parseInt(value);
+                    break;
+                case "--variants":
+                    variants = Arrays.asList(value.toLowerCase(Locale.ROOT).split(","));
+                    break;
+                case "--label":
+                    label = value;
+                    break;
+                case "--out":
+                    out = value;
+                    break;
+                default:
+                    System.out.println("Usage: java simulador.bench.EngineBenchmark [--processes N] [--seed S]"
+                            + " [--scheduler FCFS|SJF|SRTF|RR] [--quantum Q] [--cores N] [--frames F] [--engine tick|des]"
+                            + " [--warmup N] [--runs N] [--variants none,sync,async] [--label TEXT] [--out file.json]");
+                    System.exit(1);
+            }
+        }
+        for (String variant : variants) {
+            if (!VARIANTS.contains(variant)) {
+                throw new IllegalArgumentException("Unknown variant: " + variant);
+            }
+        }
+
+        Config config = new Config(processes, seed, schedulerName, quantum, cores, frames, engineMode);
+
+        // La simulación es determinista: los eventos de una corrida con listener valen para todas
+        long events = runOnce(config, "sync").events;
+
+        List<VariantResult> results = new ArrayList<>();
+        for (String variant : variants) {
+            for (int i = 0; i < warmup; i++) {
+                runOnce(config, variant);
+            }
+            VariantResult result = new VariantResult(variant);
+            for (int i = 0; i < runs; i++) {
+                RunResult run = runOnce(config, variant);
+                run.events = events;
+                result.runs.add(run);
+                System.out.printf(Locale.ROOT, "[EngineBenchmark] %-5s run %d: %.0f ticks/s, %.0f events/s, %.1f B/tick, gc %d ms%n",
+                        variant, i + 1, run.ticksPerSecond(), run.eventsPerSecond(), run.bytesPerTick(), run.gcMillis);
+            }
+            results.add(result);
+        }
+
+        writeJson(Path.of(out), label, config, warmup, results);
+        System.out.println("[EngineBenchmark] Results written to " + out);
+    }
+
+    private static RunResult runOnce(Config config, String variant) throws InterruptedException {
+        Supplier<CPUScheduler> factory = () -> SchedulerBenchmark.createScheduler(config.scheduler, config.quantum);
+        Simulator sim = new Simulator(factory, config.cores, new MemoryManager(config.frames, new FIFO()), 0,
+                new VirtualClock());
+        sim.setEngineMode(config.engineMode);
+        sim.setGanttLogEnabled(false);
+        WorkloadGenerator generator = WorkloadGenerator.builder().seed(config.seed).count(config.processes).build();
+        Process process;
+        while ((process = generator.next()) != null) {
+            sim.addProcess(process);
+        }
+
+        CountingListener counter = new CountingListener();
+        AsyncSimulationListener async = null;
+        if (variant.equals("sync")) {
+            sim.addListener(counter);
+        } else if (variant.equals("async")) {
+            async = sim.addListener(counter, AsyncSimulationListener.Backpressure.BLOCK);
+        }
+
+        System.gc();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+
+        sim.run();
+        if (async != null) {
+            async.awaitTermination(60_000);
+        }
+
+        RunResult result = new RunResult();
+        result.nanos = System.nanoTime() - start;
+        result.allocatedBytes = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        result.gcCount = gcCount() - gcCountBefore;
+        result.gcMillis = gcMillis() - gcMillisBefore;
+        result.ticks = sim.getCurrentTime();
+        result.events = counter.events;
+        return result;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    private static void writeJson(Path out, String label, Config config, int warmup, List<VariantResult> results)
+            throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out))) {
+            writer.println("{");
+            writer.printf(Locale.ROOT, "  \"label\": \"%s\",%n", escape(label));
+            writer.printf(Locale.ROOT, "  \"timestamp\": \"%s\",%n", Instant.now());
+            writer.printf(Locale.ROOT, "  \"java\": \"%s\",%n", escape(System.getProperty("java.version")));
+            writer.printf(Locale.ROOT, "  \"processors\": %d,%n", Runtime.getRuntime().availableProcessors());
+            writer.printf(Locale.ROOT, "  \"config\": {\"processes\": %d, \"seed\": %d, \"scheduler\": \"%s\", \"quantum\": %d,"
+                            + " \"cores\": %d, \"frames\": %d, \"engine\": \"%s\", \"warmup\": %d},%n",
+                    config.processes, config.seed, escape(config.scheduler), config.quantum, config.cores, config.frames,
+                    config.engineMode == Simulator.EngineMode.DISCRETE_EVENT ? "des" : "tick", warmup);
+            writer.println("  \"variants\": [");
+            for (int v = 0; v < results.size(); v++) {
+                VariantResult result = results.get(v);
+                writer.println("    {");
+                writer.printf(Locale.ROOT, "      \"variant\": \"%s\",%n", result.variant);
+                writer.printf(Locale.ROOT, "      \"ticks_per_second\": %.1f,%n", result.median(RunResult::ticksPerSecond));
+                writer.printf(Locale.ROOT, "      \"events_per_second\": %.1f,%n", result.median(RunResult::eventsPerSecond));
+                writer.printf(Locale.ROOT, "      \"bytes_per_tick\": %.1f,%n", result.median(RunResult::bytesPerTick));
+                writer.printf(Locale.ROOT, "      \"gc_pause_ms\": %.1f,%n", result.median(run -> run.gcMillis));
+                writer.println("      \"runs\": [");
+                for (int r = 0; r < result.runs.size(); r++) {
+                    RunResult run = result.runs.get(r);
+                    writer.printf(Locale.ROOT, "        {\"wall_ms\": %.3f, \"ticks\": %d, \"events\": %d, \"allocated_bytes\": %d,"
+                                    + " \"gc_count\": %d, \"gc_pause_ms\": %d}%s%n",
+                            run.nanos / 1e6, run.ticks, run.events, run.allocatedBytes, run.gcCount, run.gcMillis,
+                            r + 1 < result.runs.size() ? "," : "");
+                }
+                writer.println("      ]");
+                writer.printf("    }%s%n", v + 1 < results.size() ? "," : "");
+            }
+            writer.println("  ]");
+            writer.println("}");
+        }
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static final class Config {
+        final long processes;
+        final long seed;
+        final String scheduler;
+        final int quantum;
+        final int cores;
+        final int frames;
+        final Simulator.EngineMode engineMode;
+
+        Config(long processes, long seed, String scheduler, int quantum, int cores, int frames,
+               Simulator.EngineMode engineMode) {
+            this.processes = processes;
+            this.seed = seed;
+            this.scheduler = scheduler;
+            this.quantum = quantum;
+            this.cores = cores;
+            this.frames = frames;
+            this.engineMode = engineMode;
+        }
+    }
+
+    private static final class RunResult {
+        long nanos;
+        long ticks;
+        long events;
+        long allocatedBytes;
+        long gcCount;
+        long gcMillis;
+
+        double ticksPerSecond() {
+            return ticks * 1e9 / nanos;
+        }
+
+        double eventsPerSecond() {
+            return events * 1e9 / nanos;
+        }
+
+        double bytesPerTick() {
+            return ticks == 0 ? 0 : (double) allocatedBytes / ticks;
+        }
+    }
+
+    private static final class VariantResult {
+        final String variant;
+        final List<RunResult> runs = new ArrayList<>();
+
+        VariantResult(String variant) {
+            this.variant = variant;
+        }
+
+        double median(ToDoubleFunction<RunResult> metric) {
+            double[] values = runs.stream().mapToDouble(metric).sorted().toArray();
+            if (values.length == 0) {
+                return 0;
+            }
+            int middle = values.length / 2;
+            return values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+        }
+    }
+
+    /**
+     * Cuenta cada notificación del simulador (sin doble conteo de las variantes por núcleo)
+     */
+    private static final class CountingListener implements Simulator.SimulationListener {
+        volatile long events;
+
+        @Override public void onSimulationStarted() { events++; }
+        @Override public void onSimulationFinished(MetricsCollector metrics) { events++; }
+        @Override public void onProcessesLoaded(int count) { events++; }
+        @Override public void onProcessArrived(Process process) { events++; }
+        @Override public void onProcessStarted(Process process) { events++; }
+        @Override public void onTimeAdvanced(int time) { events++; }
+        @Override public void onProcessExecStart(Process process, int time, int core) { events++; }
+        @Override public void onProcessExecEnd(Process process, int time, int core) { events++; }
+        @Override public void onContextSwitch(int startTime, int endTime, int core) { events++; }
+        @Override public void onIOStarted(Process process, int startTime, int duration) { events++; }
+        @Override public void onIOCompleted(Process process, int time) { events++; }
+    }
+}
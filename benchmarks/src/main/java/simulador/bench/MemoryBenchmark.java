@@ -0,0 +1,191 @@
+package simulador.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import simulador.memory.FIFO;
+import simulador.memory.LRU;
+import simulador.memory.MemoryManager;
+import simulador.memory.Optimal;
+import simulador.memory.PageReplacement;
+import simulador.process.Burst;
+import simulador.process.Process;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput de MemoryManager.loadPages/releaseProcessPages con FIFO, LRU y Optimal.
+ *
+ * Cada referencia es un loadPages de todas las páginas de un proceso (así pide memoria el
+ * simulador). Hay el doble de procesos de los que caben en memoria, que se referencian con uno de
+ * estos patrones:
+ *   sequential: recorre todos los procesos en orden, cada referencia es un fallo
+ *   looping:    ciclo sobre un proceso más de los que caben, el peor caso de FIFO y LRU
+ *   zipfian:    popularidad Zipf (s = 1), mezcla de aciertos y fallos
+ *
+ * Optimal recibe como referencias futuras la misma secuencia traducida a marcos (índice del
+ * proceso módulo marcos) y se reinicia al agotarla, para que findNextUse siempre recorra datos.
+ *
+ * Bytes asignados por operación: java -jar benchmarks/target/benchmarks.jar MemoryBenchmark -prof gc
+ *
+ * Al llenar la memoria allocateFrame busca el primer marco libre desde el inicio, así que el
+ * llenado es cuadrático en la cantidad de marcos: 1048576 se pide con -p frames=1048576.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MemoryBenchmark {
+
+    private static final int PAGES_PER_PROCESS = 4;
+    private static final int MIN_REFERENCES = 1 << 16;
+
+    @Param({"FIFO", "LRU", "Optimal"})
+    public String algorithm;
+
+    @Param({"16", "1024", "65536"})
+    public int frames;
+
+    @Param({"sequential", "looping", "zipfian"})
+    public String pattern;
+
+    private MemoryManager memory;
+    private Optimal optimal;
+    private List<Integer> futureFrames;
+    private int optimalMark;
+    private Process[] processes;
+    private int[] references;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int resident = Math.max(1, frames / PAGES_PER_PROCESS);
+        processes = new Process[resident * 2];
+        for (int i = 0; i < processes.length; i++) {
+            processes[i] = new Process("P" + i, 0, new Burst[]{Burst.cpu(1)}, 1, PAGES_PER_PROCESS);
+        }
+        references = createReferences(pattern, processes.length, resident);
+
+        PageReplacement replacement = createReplacement(algorithm);
+        if (replacement instanceof Optimal) {
+            optimal = (Optimal) replacement;
+            futureFrames = new ArrayList<>(references.length * PAGES_PER_PROCESS);
+            for (int reference : references) {
+                for (int page = 0; page < PAGES_PER_PROCESS; page++) {
+                    futureFrames.add((reference * PAGES_PER_PROCESS + page) % frames);
+                }
+            }
+            optimal.setFutureReferences(futureFrames);
+        }
+        memory = new MemoryManager(frames, replacement);
+
+        // Memoria llena antes de medir: a partir de aquí cada fallo reemplaza una página
+        for (int i = 0; i < resident; i++) {
+            memory.loadPages(processes[i], PAGES_PER_PROCESS);
+        }
+        cursor = 0;
+        optimalMark = memory.getPageFaults();
+    }
+
+    /**
+     * Una referencia: acierto si el proceso está residente, si no carga sus páginas reemplazando otras
+     */
+    @Benchmark
+    public boolean loadPages() {
+        Process process = nextProcess();
+        boolean loaded = memory.loadPages(process, PAGES_PER_PROCESS);
+        resetOptimalIfExhausted();
+        return loaded;
+    }
+
+    /**
+     * El proceso referenciado termina y vuelve a cargarse: libera sus marcos y los vuelve a pedir
+     */
+    @Benchmark
+    public boolean releaseAndReload() {
+        Process process = nextProcess();
+        memory.releaseProcessPages(process.getPid());
+        boolean loaded = memory.loadPages(process, PAGES_PER_PROCESS);
+        resetOptimalIfExhausted();
+        return loaded;
+    }
+
+    private Process nextProcess() {
+        Process process = processes[references[cursor]];
+        cursor++;
+        if (cursor == references.length) {
+            cursor = 0;
+        }
+        return process;
+    }
+
+    // Cada carga de página (un fallo) avanza el índice de Optimal en una posición
+    private void resetOptimalIfExhausted() {
+        if (optimal != null && memory.getPageFaults() - optimalMark >= futureFrames.size()) {
+            optimal.setFutureReferences(futureFrames);
+            optimalMark = memory.getPageFaults();
+        }
+    }
+
+    static int[] createReferences(String pattern, int processCount, int resident) {
+        int length = Math.max(MIN_REFERENCES, processCount);
+        int[] references = new int[length];
+        switch (pattern) {
+            case "sequential":
+                for (int i = 0; i < length; i++) {
+                    references[i] = i % processCount;
+                }
+                break;
+            case "looping":
+                int loop = Math.min(processCount, resident + 1);
+                for (int i = 0; i < length; i++) {
+                    references[i] = i % loop;
+                }
+                break;
+            case "zipfian":
+                double[] cumulative = new double[processCount];
+                double sum = 0;
+                for (int i = 0; i < processCount; i++) {
+                    sum += 1.0 / (i + 1);
+                    cumulative[i] = sum;
+                }
+                SplittableRandom random = new SplittableRandom(42);
+                for (int i = 0; i < length; i++) {
+                    int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+                    references[i] = Math.min(processCount - 1, index >= 0 ? index : -index - 1);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown pattern: " + pattern);
+        }
+        return references;
+    }
+
+    static PageReplacement createReplacement(String name) {
+        switch (name) {
+            case "FIFO":
+                return new FIFO();
+            case "LRU":
+                return new LRU();
+            case "Optimal":
+                return new Optimal();
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + name);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package simulador.bench;
+
+import simulador.process.Burst;
+import simulador.process.Process;
+import simulador.scheduler.SRTF;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Verificación aleatoria del heap indexado de SRTF contra un modelo de referencia lineal. Aplica
+ * una secuencia de addProcess, updateRemainingTime, remove y getNextProcess con semilla fija y
+ * compara después de cada paso el tamaño, el tiempo restante del primero y el proceso despachado
+ * (menor tiempo restante, a igualdad el que entró antes). Termina con código 1 en la primera
+ * diferencia.
+ *
+ * java -cp benchmarks/target/benchmarks.jar simulador.bench.SRTFHeapCheck --operations 200000 --seed 7
+ */
+public class SRTFHeapCheck {
+
+    public static void main(String[] args) {
+        int operations = 200000;
+        long seed = 7L;
+        int maxKey = 100;
+
+        for (int i = 0; i < args.length; i++) {
+            String token = args[i];
+            if (i + 1 >= args.length) {
+                System.out.println("[SRTFHeapCheck] Missing value for " + token + " option.");
+                System.exit(1);
+            }
+            String value = args[++i];
+            switch (token) {
+                case "--operations":
+                    operations = Integer.parseInt(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--max-key":
+                    maxKey = Integer.parseInt(value);
+                    break;
+                default:
+                    System.out.println("[SRTFHeapCheck] Unknown argument: " + token);
+                    System.out.println("Usage: java simulador.bench.SRTFHeapCheck [--operations N] [--seed S] [--max-key K]");
+                    System.exit(1);
+            }
+        }
+
+        String failure = run(operations, seed, maxKey);
+        if (failure != null) {
+            System.out.println("[SRTFHeapCheck] FAILED (seed=" + seed + "): " + failure);
+            System.exit(1);
+        }
+        System.out.printf("[SRTFHeapCheck] OK: %d operations, seed=%d%n", operations, seed);
+    }
+
+    /**
+     * Ejecuta la secuencia y retorna la primera diferencia encontrada, o null si no hubo ninguna
+     */
+    static String run(int operations, long seed, int maxKey) {
+        SplittableRandom random = new SplittableRandom(seed);
+        SRTF heap = new SRTF();
+        // Modelo de referencia: procesos encolados con su clave y su orden de entrada
+        List<Process> queued = new ArrayList<>();
+        Map<Process, Integer> keys = new IdentityHashMap<>();
+        Map<Process, Long> sequences = new IdentityHashMap<>();
+        long nextSequence = 0;
+
+        for (int step = 0; step < operations; step++) {
+            int operation = random.nextInt(5);
+            if (operation < 2 || queued.isEmpty()) {
+                Process p = new Process("P" + step, 0, new Burst[]{Burst.cpu(1 + random.nextInt(50))}, 1, 1);
+                int key = random.nextInt(maxKey);
+                heap.addProcess(p, key);
+                queued.add(p);
+                keys.put(p, key);
+                sequences.put(p, nextSequence++);
+            } else if (operation == 2) {
+                Process p = queued.get(random.nextInt(queued.size()));
+                int key = random.nextInt(maxKey);
+                if (!heap.updateRemainingTime(p, key)) {
+                    return "step " + step + ": updateRemainingTime did not find " + p.getPid();
+                }
+                keys.put(p, key);
+            } else if (operation == 3) {
+                Process p = queued.remove(random.nextInt(queued.size()));
+                if (!heap.remove(p)) {
+                    return "step " + step + ": remove did not find " + p.getPid();
+                }
+                keys.remove(p);
+            } else {
+                Process expected = null;
+                for (Process p : queued) {
+                    if (expected == null || keys.get(p) < keys.get(expected)
+                            || (keys.get(p).equals(keys.get(expected)) && sequences.get(p) < sequences.get(expected))) {
+                        expected = p;
+                    }
+                }
+                if (heap.peekRemainingTime() != keys.get(expected)) {
+                    return "step " + step + ": peekRemainingTime " + heap.peekRemainingTime()
+                            + ", expected " + keys.get(expected);
+                }
+                Process next = heap.getNextProcess();
+                if (next != expected) {
+                    return "step " + step + ": dispatched " + (next != null ? next.getPid() : null)
+                            + ", expected " + expected.getPid();
+                }
+                queued.remove(expected);
+                keys.remove(expected);
+            }
+            if (heap.size() != queued.size()) {
+                return "step " + step + ": size " + heap.size() + ", expected " + queued.size();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,108 @@
+package simulador.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import simulador.process.Burst;
+import simulador.process.Process;
+import simulador.scheduler.CPUScheduler;
+import simulador.scheduler.FCFS;
+import simulador.scheduler.RoundRobin;
+import simulador.scheduler.SJF;
+import simulador.scheduler.SRTF;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput de addProcess/getNextProcess de cada CPUScheduler con la cola de listos a una
+ * profundidad fija. Cada operación pasa por el control de duplicados del planificador
+ * (marca de pertenencia en el proceso en FCFS, RoundRobin y SRTF, queue.contains en SJF).
+ *
+ * La asignación por operación se obtiene con el perfilador de GC de JMH:
+ *   java -jar benchmarks/target/benchmarks.jar SchedulerBenchmark -prof gc
+ *
+ * La cola se llena con addProcess, así que con un control de duplicados lineal el llenado es
+ * cuadrático: las profundidades 100000 y 1000000 se piden explícitamente con
+ *   -p depth=100000,1000000
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SchedulerBenchmark {
+
+    @Param({"FCFS", "SJF", "SRTF", "RR"})
+    public String scheduler;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int depth;
+
+    private CPUScheduler queue;
+    private Process tail; // último proceso encolado
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queue = createScheduler(scheduler);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < depth; i++) {
+            Burst[] bursts = {Burst.cpu(1 + random.nextInt(50)), Burst.io(1 + random.nextInt(10)),
+                    Burst.cpu(1 + random.nextInt(50))};
+            tail = new Process("P" + i, i, bursts, 1 + random.nextInt(5), 1 + random.nextInt(8));
+            queue.addProcess(tail);
+        }
+        if (queue.size() != depth) {
+            throw new IllegalStateException("Expected " + depth + " queued processes, got " + queue.size());
+        }
+    }
+
+    /**
+     * Despacha el siguiente proceso y lo devuelve a la cola (fin de quantum): la profundidad no cambia
+     */
+    @Benchmark
+    public Process dispatchAndRequeue() {
+        Process next = queue.getNextProcess();
+        queue.addProcess(next);
+        tail = next;
+        return next;
+    }
+
+    /**
+     * Reencolar un proceso que ya está en la cola: solo el control de duplicados, que lo rechaza
+     */
+    @Benchmark
+    public int addDuplicate() {
+        queue.addProcess(tail);
+        return queue.size();
+    }
+
+    static CPUScheduler createScheduler(String name) {
+        return createScheduler(name, 4);
+    }
+
+    static CPUScheduler createScheduler(String name, int quantum) {
+        switch (name) {
+            case "FCFS":
+                return new FCFS();
+            case "SJF":
+                return new SJF();
+            case "SRTF":
+                return new SRTF();
+            case "RR":
+                return new RoundRobin(quantum);
+            default:
+                throw new IllegalArgumentException("Unknown scheduler: " + name);
+        }
+    }
+}
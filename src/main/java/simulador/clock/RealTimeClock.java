@@ -0,0 +1,16 @@
+package simulador.clock;
+
+/**
+ * Reloj en tiempo real: una unidad lógica dura MILLIS_PER_UNIT ms reales
+ */
+public class RealTimeClock extends ScaledClock {
+
+    public RealTimeClock() {
+        super(MILLIS_PER_UNIT);
+    }
+
+    @Override
+    public String getName() {
+        return "Real time";
+    }
+}
@@ -0,0 +1,33 @@
+package simulador.clock;
+
+/**
+ * Reloj que duerme una cantidad configurable de milisegundos reales por unidad lógica
+ */
+public class ScaledClock implements SimulationClock {
+
+    private final long wallMillisPerUnit;
+
+    public ScaledClock(long wallMillisPerUnit) {
+        if (wallMillisPerUnit < 0) {
+            throw new IllegalArgumentException("wallMillisPerUnit must be >= 0");
+        }
+        this.wallMillisPerUnit = wallMillisPerUnit;
+    }
+
+    @Override
+    public void sleepUnits(long units) throws InterruptedException {
+        if (units > 0 && wallMillisPerUnit > 0) {
+            Thread.sleep(units * wallMillisPerUnit);
+        }
+    }
+
+    @Override
+    public long getWallMillisPerUnit() {
+        return wallMillisPerUnit;
+    }
+
+    @Override
+    public String getName() {
+        return "Scaled (" + wallMillisPerUnit + " ms/unit)";
+    }
+}
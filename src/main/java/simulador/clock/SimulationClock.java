@@ -0,0 +1,35 @@
+package simulador.clock;
+
+/**
+ * Reloj de la simulación: define cuánto tiempo real dura una unidad lógica.
+ * Las métricas siempre se expresan en milisegundos simulados (MILLIS_PER_UNIT por unidad),
+ * de modo que el resultado es el mismo sin importar la escala de tiempo elegida.
+ */
+public interface SimulationClock {
+
+    /** Milisegundos simulados que representa una unidad lógica en las métricas */
+    long MILLIS_PER_UNIT = 100;
+
+    /**
+     * Bloquea el hilo actual durante las unidades lógicas indicadas
+     */
+    void sleepUnits(long units) throws InterruptedException;
+
+    /**
+     * Milisegundos reales que dura una unidad lógica (0 si el reloj no duerme)
+     */
+    long getWallMillisPerUnit();
+
+    String getName();
+
+    default boolean isVirtual() {
+        return getWallMillisPerUnit() == 0;
+    }
+
+    /**
+     * Convierte unidades lógicas a milisegundos simulados
+     */
+    default long toMillis(long units) {
+        return units * MILLIS_PER_UNIT;
+    }
+}
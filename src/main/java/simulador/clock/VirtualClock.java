@@ -0,0 +1,24 @@
+package simulador.clock;
+
+/**
+ * Reloj virtual: el tiempo lógico avanza sin dormir, la simulación corre a máxima velocidad
+ */
+public class VirtualClock implements SimulationClock {
+
+    @Override
+    public void sleepUnits(long units) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    @Override
+    public long getWallMillisPerUnit() {
+        return 0;
+    }
+
+    @Override
+    public String getName() {
+        return "Virtual";
+    }
+}
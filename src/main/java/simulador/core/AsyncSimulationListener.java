@@ -0,0 +1,240 @@
+package simulador.core;
+
+import simulador.metrics.MetricsCollector;
+import simulador.process.Process;
+
+/**
+ * Envuelve un SimulationListener para que sus callbacks se ejecuten fuera del hilo de simulación.
+ * El simulador publica eventos tipados en un buffer circular acotado y un hilo propio del listener
+ * los consume por lotes; la política de contrapresión decide qué pasa cuando el buffer se llena.
+ */
+public class AsyncSimulationListener implements Simulator.SimulationListener, AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * BLOCK: el simulador espera a que haya lugar (no se pierde nada).
+     * DROP_OLDEST: se descarta el evento más antiguo; el simulador nunca espera.
+     * COALESCE: los avances de tiempo consecutivos se fusionan y, con el buffer lleno, se descartan
+     * los avances de tiempo pendientes; si solo quedan eventos de estado se descarta el más antiguo.
+     * El simulador nunca espera.
+     */
+    public enum Backpressure {
+        BLOCK, DROP_OLDEST, COALESCE
+    }
+
+    private final Simulator.SimulationListener delegate;
+    private final Backpressure policy;
+    private final EventRingBuffer buffer;
+    private final SimulationEvent[] batch;
+    private final Thread dispatcher;
+
+    public AsyncSimulationListener(Simulator.SimulationListener delegate, Backpressure policy) {
+        this(delegate, policy, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    public AsyncSimulationListener(Simulator.SimulationListener delegate, Backpressure policy,
+                                   int capacity, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be >= 1");
+        }
+        this.delegate = delegate;
+        this.policy = policy;
+        this.buffer = new EventRingBuffer(capacity);
+        this.batch = new SimulationEvent[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            batch[i] = new SimulationEvent();
+        }
+        this.dispatcher = new Thread(this::dispatchLoop, "listener-" + delegate.getClass().getSimpleName());
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    public Simulator.SimulationListener getDelegate() {
+        return delegate;
+    }
+
+    public Backpressure getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Eventos descartados o fusionados por la política de contrapresión
+     */
+    public long getDroppedCount() {
+        return buffer.getDroppedCount();
+    }
+
+    /**
+     * Deja de aceptar eventos; el hilo entrega los pendientes y termina
+     */
+    @Override
+    public void close() {
+        buffer.close();
+    }
+
+    /**
+     * Espera a que el hilo entregue los eventos pendientes (llamar después de close())
+     */
+    public boolean awaitTermination(long millis) throws InterruptedException {
+        dispatcher.join(millis);
+        return !dispatcher.isAlive();
+    }
+
+    private void publish(SimulationEvent.Kind kind, Process process, int time, int value, int core,
+                         MetricsCollector metrics) {
+        try {
+            buffer.publish(kind, process, time, value, core, metrics, policy);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatchLoop() {
+        try {
+            int n;
+            while ((n = buffer.drain(batch)) >= 0) {
+                // Con COALESCE solo se entrega el último avance de tiempo de cada lote
+                int lastTime = -1;
+                if (policy == Backpressure.COALESCE) {
+                    for (int i = n - 1; i >= 0; i--) {
+                        if (batch[i].getKind() == SimulationEvent.Kind.TIME_ADVANCED) {
+                            lastTime = i;
+                            break;
+                        }
+                    }
+                }
+                for (int i = 0; i < n; i++) {
+                    SimulationEvent event = batch[i];
+                    if (lastTime >= 0 && i != lastTime && event.getKind() == SimulationEvent.Kind.TIME_ADVANCED) {
+                        continue;
+                    }
+                    try {
+                        deliver(event);
+                    } catch (RuntimeException e) {
+                        System.err.println("[AsyncSimulationListener] Listener failed on " + event + ": " + e);
+                    }
+                    event.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deliver(SimulationEvent event) {
+        switch (event.getKind()) {
+            case SIMULATION_STARTED:
+                delegate.onSimulationStarted();
+                break;
+            case SIMULATION_FINISHED:
+                delegate.onSimulationFinished(event.getMetrics());
+                break;
+            case PROCESSES_LOADED:
+                delegate.onProcessesLoaded(event.getValue());
+                break;
+            case PROCESS_ARRIVED:
+                delegate.onProcessArrived(event.getProcess());
+                break;
+            case PROCESS_STARTED:
+                delegate.onProcessStarted(event.getProcess());
+                break;
+            case TIME_ADVANCED:
+                delegate.onTimeAdvanced(event.getTime());
+                break;
+            case EXEC_START:
+                delegate.onProcessExecStart(event.getProcess(), event.getTime(), event.getCore());
+                break;
+            case EXEC_END:
+                delegate.onProcessExecEnd(event.getProcess(), event.getTime(), event.getCore());
+                break;
+            case CONTEXT_SWITCH:
+                delegate.onContextSwitch(event.getTime(), event.getValue(), event.getCore());
+                break;
+            case IO_STARTED:
+                delegate.onIOStarted(event.getProcess(), event.getTime(), event.getValue());
+                break;
+            case IO_COMPLETED:
+                delegate.onIOCompleted(event.getProcess());
+                delegate.onIOCompleted(event.getProcess(), event.getTime());
+                break;
+        }
+    }
+
+    // Implementación de SimulationListener: cada callback solo publica el evento
+    @Override
+    public void onSimulationStarted() {
+        publish(SimulationEvent.Kind.SIMULATION_STARTED, null, 0, 0, 0, null);
+    }
+
+    @Override
+    public void onSimulationFinished(MetricsCollector metrics) {
+        publish(SimulationEvent.Kind.SIMULATION_FINISHED, null, 0, 0, 0, metrics);
+    }
+
+    @Override
+    public void onProcessesLoaded(int count) {
+        publish(SimulationEvent.Kind.PROCESSES_LOADED, null, 0, count, 0, null);
+    }
+
+    @Override
+    public void onProcessArrived(Process process) {
+        publish(SimulationEvent.Kind.PROCESS_ARRIVED, process, 0, 0, 0, null);
+    }
+
+    @Override
+    public void onProcessStarted(Process process) {
+        publish(SimulationEvent.Kind.PROCESS_STARTED, process, 0, 0, 0, null);
+    }
+
+    @Override
+    public void onTimeAdvanced(int time) {
+        publish(SimulationEvent.Kind.TIME_ADVANCED, null, time, 0, 0, null);
+    }
+
+    @Override
+    public void onProcessExecStart(Process process, int time) {
+        onProcessExecStart(process, time, 0);
+    }
+
+    @Override
+    public void onProcessExecStart(Process process, int time, int core) {
+        publish(SimulationEvent.Kind.EXEC_START, process, time, 0, core, null);
+    }
+
+    @Override
+    public void onProcessExecEnd(Process process, int time) {
+        onProcessExecEnd(process, time, 0);
+    }
+
+    @Override
+    public void onProcessExecEnd(Process process, int time, int core) {
+        publish(SimulationEvent.Kind.EXEC_END, process, time, 0, core, null);
+    }
+
+    @Override
+    public void onContextSwitch(int startTime, int endTime) {
+        onContextSwitch(startTime, endTime, 0);
+    }
+
+    @Override
+    public void onContextSwitch(int startTime, int endTime, int core) {
+        publish(SimulationEvent.Kind.CONTEXT_SWITCH, null, startTime, endTime, core, null);
+    }
+
+    @Override
+    public void onIOStarted(Process process, int startTime, int duration) {
+        publish(SimulationEvent.Kind.IO_STARTED, process, startTime, duration, 0, null);
+    }
+
+    @Override
+    public void onIOCompleted(Process process) {
+        // El simulador siempre llama también a la variante con tiempo, que publica el evento
+    }
+
+    @Override
+    public void onIOCompleted(Process process, int time) {
+        publish(SimulationEvent.Kind.IO_COMPLETED, process, time, 0, 0, null);
+    }
+}
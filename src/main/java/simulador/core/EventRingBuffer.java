@@ -0,0 +1,168 @@
+package simulador.core;
+
+import simulador.metrics.MetricsCollector;
+import simulador.process.Process;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffer circular acotado de eventos con ranuras preasignadas: publicar copia los campos
+ * en una ranura libre y consumir copia un lote completo, así no se crean objetos por evento.
+ */
+final class EventRingBuffer {
+
+    private final SimulationEvent[] slots;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int head; // próxima ranura a consumir
+    private int count;
+    private long dropped;
+    private boolean closed;
+
+    EventRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1");
+        }
+        this.slots = new SimulationEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new SimulationEvent();
+        }
+    }
+
+    /**
+     * Publica un evento aplicando la política indicada cuando el buffer está lleno.
+     * @return false si el buffer ya fue cerrado y el evento se descartó
+     */
+    boolean publish(SimulationEvent.Kind kind, Process process, int time, int value, int core,
+                    MetricsCollector metrics, AsyncSimulationListener.Backpressure policy) throws InterruptedException {
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            boolean timeEvent = kind == SimulationEvent.Kind.TIME_ADVANCED;
+            if (policy == AsyncSimulationListener.Backpressure.COALESCE && timeEvent && count > 0) {
+                SimulationEvent last = slots[index(count - 1)];
+                if (last.getKind() == SimulationEvent.Kind.TIME_ADVANCED) {
+                    last.setTime(time);
+                    dropped++;
+                    return true;
+                }
+            }
+            if (count == slots.length) {
+                switch (policy) {
+                    case COALESCE:
+                        // Los avances de tiempo pendientes quedan obsoletos ante el nuevo evento;
+                        // si solo hay eventos de estado se descarta el más antiguo, sin esperar
+                        if (removeTimeEvents() == 0) {
+                            dropOldest();
+                        }
+                        break;
+                    case DROP_OLDEST:
+                        dropOldest();
+                        break;
+                    case BLOCK:
+                    default:
+                        while (count == slots.length && !closed) {
+                            notFull.await();
+                        }
+                        if (closed) {
+                            return false;
+                        }
+                        break;
+                }
+            }
+            slots[index(count)].set(kind, process, time, value, core, metrics);
+            count++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Espera al menos un evento y copia hasta batch.length eventos en el lote.
+     * @return cantidad de eventos copiados, o -1 si el buffer está cerrado y vacío
+     */
+    int drain(SimulationEvent[] batch) throws InterruptedException {
+        lock.lock();
+        try {
+            while (count == 0 && !closed) {
+                notEmpty.await();
+            }
+            if (count == 0) {
+                return -1;
+            }
+            int n = Math.min(count, batch.length);
+            for (int i = 0; i < n; i++) {
+                batch[i].copyFrom(slots[head]);
+                slots[head].clear();
+                head = index(1);
+            }
+            count -= n;
+            notFull.signalAll();
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getDroppedCount() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int index(int offset) {
+        return (head + offset) % slots.length;
+    }
+
+    private void dropOldest() {
+        slots[head].clear();
+        head = index(1);
+        count--;
+        dropped++;
+    }
+
+    // Compacta el buffer quitando los TIME_ADVANCED pendientes; mantiene el orden del resto
+    private int removeTimeEvents() {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int from = index(i);
+            if (slots[from].getKind() == SimulationEvent.Kind.TIME_ADVANCED) {
+                continue;
+            }
+            int to = index(kept);
+            if (to != from) {
+                SimulationEvent tmp = slots[to];
+                slots[to] = slots[from];
+                slots[from] = tmp;
+            }
+            kept++;
+        }
+        int removed = count - kept;
+        count = kept;
+        dropped += removed;
+        if (removed > 0) {
+            notFull.signalAll();
+        }
+        return removed;
+    }
+}
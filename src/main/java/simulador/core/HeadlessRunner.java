@@ -1,19 +1,40 @@
 package simulador.core;
 
+import simulador.clock.RealTimeClock;
+import simulador.clock.ScaledClock;
+import simulador.clock.SimulationClock;
+import simulador.clock.VirtualClock;
 import simulador.memory.MemoryManager;
 import simulador.memory.FIFO;
+import simulador.metrics.TimeSeriesRecorder;
 import simulador.scheduler.CPUScheduler;
 import simulador.scheduler.FCFS;
 import simulador.scheduler.RoundRobin;
 import simulador.scheduler.SJF;
+import simulador.scheduler.SRTF;
+import simulador.workload.ArrivalProcess;
+import simulador.workload.IntDistribution;
+import simulador.workload.WorkloadGenerator;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
 import java.util.Locale;
+import java.util.function.Supplier;
 
 public class HeadlessRunner {
     public static void main(String[] args) throws IOException, InterruptedException {
         if (args.length < 2) {
-            System.out.println("Usage: java simulador.core.HeadlessRunner <scheduler> [quantum] <process_file> [--cs N]");
-            System.out.println("Schedulers: FCFS | SJF | RR");
+            System.out.println("Usage: java simulador.core.HeadlessRunner <scheduler> [quantum] <process_file> [--cs N] [--engine tick|des] [--clock real|virtual|<ms per unit>] [--cores N] [--stream] [--parallel-parse] [--group-by-priority] [--spill FILE] [--metrics [HOST:]PORT] [--timeseries FILE [--sample-every N] [--timeseries-capacity N]] [--generate N [--seed S] [--profile poisson|bursty|heavy|bimodal]]");
+            System.out.println("Schedulers: FCFS | SJF | SRTF (preemptive SJF) | RR");
+            System.out.println("Engines: tick (one unit per step, default) | des (discrete-event, no sleeping)");
+            System.out.println("Clocks: real (100 ms per unit, default) | virtual (no sleeping) | N (N ms per unit)");
+            System.out.println("--stream reads the file lazily (sorted by arrival) and keeps only aggregate metrics");
+            System.out.println("--group-by-priority adds per-priority aggregates; --spill FILE writes one CSV row per process");
+            System.out.println("--metrics serves live Prometheus metrics at http://HOST:PORT/metrics (localhost by default)");
+            System.out.println("--timeseries samples queue, memory and I/O gauges every N units (default 1) into FILE (.csv or binary)");
+            System.out.println("--parallel-parse parses large text files in parallel before running");
+            System.out.println("--generate N feeds N synthetic processes instead of a file (reproducible with --seed)");
             System.out.println("Example RR: java simulador.core.HeadlessRunner RR 3 procesos.txt --cs 1");
             System.out.println("Example FCFS: java simulador.core.HeadlessRunner FCFS procesos.txt");
             System.exit(1);
@@ -21,7 +42,7 @@ public class HeadlessRunner {
         String schedulerArg = args[0].toUpperCase(Locale.ROOT);
         int argIndex = 1;
         int quantum = 3; // default for RR if not provided
-        CPUScheduler scheduler;
+        Supplier<CPUScheduler> schedulerFactory;
         switch (schedulerArg) {
             case "RR":
             case "ROUNDROBIN":
@@ -31,18 +52,37 @@ public class HeadlessRunner {
                 }
                 quantum = Integer.parseInt(args[argIndex]);
                 argIndex++;
-                scheduler = new RoundRobin(quantum);
+                int rrQuantum = quantum;
+                schedulerFactory = () -> new RoundRobin(rrQuantum);
                 break;
             case "SJF":
-                scheduler = new SJF();
+                schedulerFactory = SJF::new;
+                break;
+            case "SRTF":
+                schedulerFactory = SRTF::new;
                 break;
             case "FCFS":
             default:
-                scheduler = new FCFS();
+                schedulerFactory = FCFS::new;
                 break;
         }
+        CPUScheduler scheduler = schedulerFactory.get();
 
         int contextSwitchCost = 0;
+        Simulator.EngineMode engineMode = Simulator.EngineMode.TICK;
+        SimulationClock clock = new RealTimeClock();
+        int cores = 1;
+        boolean stream = false;
+        boolean parallelParse = false;
+        boolean groupByPriority = false;
+        String spill = null;
+        String metricsAddress = null;
+        String timeSeriesFile = null;
+        int sampleEvery = 1;
+        int timeSeriesCapacity = TimeSeriesRecorder.DEFAULT_CAPACITY;
+        long generate = -1;
+        long seed = 1L;
+        String profile = "poisson";
         String file = null;
         while (argIndex < args.length) {
             String token = args[argIndex];
@@ -54,6 +94,76 @@ public class HeadlessRunner {
                 contextSwitchCost = Integer.parseInt(args[++argIndex]);
             } else if (token.toLowerCase(Locale.ROOT).startsWith("--cs=")) {
                 contextSwitchCost = Integer.parseInt(token.substring(token.indexOf('=') + 1));
+            } else if (token.equalsIgnoreCase("--engine")) {
+                if (argIndex + 1 >= args.length) {
+                    System.out.println("[HeadlessRunner] Missing value for --engine option.");
+                    System.exit(1);
+                }
+                engineMode = parseEngineMode(args[++argIndex]);
+            } else if (token.toLowerCase(Locale.ROOT).startsWith("--engine=")) {
+                engineMode = parseEngineMode(token.substring(token.indexOf('=') + 1));
+            } else if (token.equalsIgnoreCase("--clock")) {
+                if (argIndex + 1 >= args.length) {
+                    System.out.println("[HeadlessRunner] Missing value for --clock option.");
+                    System.exit(1);
+                }
+                clock = parseClock(args[++argIndex]);
+            } else if (token.toLowerCase(Locale.ROOT).startsWith("--clock=")) {
+                clock = parseClock(token.substring(token.indexOf('=') + 1));
+            } else if (token.equalsIgnoreCase("--cores")) {
+                if (argIndex + 1 >= args.length) {
+                    System.out.println("[HeadlessRunner] Missing value for --cores option.");
+                    System.exit(1);
+                }
+                cores = Integer.parseInt(args[++argIndex]);
+            } else if (token.toLowerCase(Locale.ROOT).startsWith("--cores=")) {
+                cores = Integer.parseInt(token.substring(token.indexOf('=') + 1));
+            } else if (token.equalsIgnoreCase("--stream")) {
+                stream = true;
+            } else if (token.equalsIgnoreCase("--parallel-parse")) {
+                parallelParse = true;
+            } else if (token.equalsIgnoreCase("--group-by-priority")) {
+                groupByPriority = true;
+            } else if (token.equalsIgnoreCase("--spill")) {
+                if (argIndex + 1 >= args.length) {
+                    System.out.println("[HeadlessRunner] Missing value for --spill option.");
+                    System.exit(1);
+                }
+                spill = args[++argIndex];
+            } else if (token.equalsIgnoreCase("--metrics")) {
+                if (argIndex + 1 >= args.length) {
+                    System.out.println("[HeadlessRunner] Missing value for --metrics option.");
+                    System.exit(1);
+                }
+                metricsAddress = args[++argIndex];
+            } else if (token.equalsIgnoreCase("--timeseries") || token.equalsIgnoreCase("--sample-every")
+                    || token.equalsIgnoreCase("--timeseries-capacity")) {
+                if (argIndex + 1 >= args.length) {
+                    System.out.println("[HeadlessRunner] Missing value for " + token + " option.");
+                    System.exit(1);
+                }
+                String value = args[++argIndex];
+                if (token.equalsIgnoreCase("--timeseries")) {
+                    timeSeriesFile = value;
+                } else if (token.equalsIgnoreCase("--sample-every")) {
+                    sampleEvery = Integer.parseInt(value);
+                } else {
+                    timeSeriesCapacity = Integer.parseInt(value);
+                }
+            } else if (token.equalsIgnoreCase("--generate") || token.equalsIgnoreCase("--seed")
+                    || token.equalsIgnoreCase("--profile")) {
+                if (argIndex + 1 >= args.length) {
+                    System.out.println("[HeadlessRunner] Missing value for " + token + " option.");
+                    System.exit(1);
+                }
+                String value = args[++argIndex];
+                if (token.equalsIgnoreCase("--generate")) {
+                    generate = Long.parseLong(value);
+                } else if (token.equalsIgnoreCase("--seed")) {
+                    seed = Long.parseLong(value);
+                } else {
+                    profile = value.toLowerCase(Locale.ROOT);
+                }
             } else if (file == null) {
                 file = token;
             } else {
@@ -62,33 +172,163 @@ public class HeadlessRunner {
             argIndex++;
         }
 
-        if (file == null) {
+        if (file == null && generate < 0) {
             System.out.println("[HeadlessRunner] Missing process file argument.");
             System.exit(1);
         }
 
-        System.out.printf("[HeadlessRunner] Running %s on file=%s", scheduler.getName(), file);
+        if (generate >= 0) {
+            System.out.printf("[HeadlessRunner] Running %s on generated workload=%d (seed=%d, profile=%s)",
+                    scheduler.getName(), generate, seed, profile);
+        } else {
+            System.out.printf("[HeadlessRunner] Running %s on file=%s", scheduler.getName(), file);
+        }
         if (scheduler instanceof RoundRobin) {
             System.out.printf(" (quantum=%d)", quantum);
         }
         if (contextSwitchCost > 0) {
             System.out.printf(" [cs=%d]", contextSwitchCost);
         }
+        if (engineMode == Simulator.EngineMode.DISCRETE_EVENT) {
+            System.out.print(" [engine=des]");
+        }
+        if (cores > 1) {
+            System.out.printf(" [cores=%d]", cores);
+        }
+        if (stream) {
+            System.out.print(" [stream]");
+        }
+        if (!(clock instanceof RealTimeClock)) {
+            System.out.printf(" [clock=%s]", clock.getName());
+        }
         System.out.println();
 
         // Create MemoryManager with FIFO replacement (defaults chosen to match typical GUI settings)
         int totalFrames = 256; // adjust if needed
         MemoryManager mm = new MemoryManager(totalFrames, new FIFO());
-        Simulator sim = new Simulator(scheduler, mm, contextSwitchCost);
+        Simulator sim = new Simulator(schedulerFactory, cores, mm, contextSwitchCost, clock);
+        sim.setEngineMode(engineMode);
+        sim.getMetricsCollector().setGroupByPriority(groupByPriority);
+        if (spill != null) {
+            sim.getMetricsCollector().setProcessSpill(Path.of(spill));
+        }
+        if (timeSeriesFile != null) {
+            sim.setTimeSeriesRecorder(new TimeSeriesRecorder(sampleEvery, timeSeriesCapacity, cores));
+        }
 
-        sim.loadProcessesFromFile(file);
+        if (generate >= 0) {
+            sim.loadProcessesFrom(createGenerator(generate, seed, profile));
+        } else if (stream) {
+            sim.streamProcessesFromFile(file);
+        } else {
+            sim.loadProcessesFromFile(file, parallelParse);
+        }
+        MetricsEndpoint endpoint = null;
+        if (metricsAddress != null) {
+            endpoint = new MetricsEndpoint(sim, parseAddress(metricsAddress));
+            endpoint.start();
+            System.out.printf("[HeadlessRunner] Serving metrics at http://%s:%d/metrics%n",
+                    endpoint.getHostString(), endpoint.getPort());
+        }
         sim.start();
 
         // Wait until simulation finishes
-        while (sim.isRunning()) {
-            Thread.sleep(200);
-        }
+        sim.awaitCompletion();
 
         System.out.println("[HeadlessRunner] Simulation finished. Metrics:\n" + sim.getMetricsCollector().generateReport());
+        if (timeSeriesFile != null) {
+            writeTimeSeries(sim.getTimeSeriesRecorder(), timeSeriesFile);
+        }
+        if (endpoint != null) {
+            endpoint.close();
+        }
+    }
+
+    // Extensión .csv: texto; cualquier otra: formato binario de TimeSeriesRecorder
+    private static void writeTimeSeries(TimeSeriesRecorder timeSeries, String file) throws IOException {
+        Path path = Path.of(file);
+        if (file.toLowerCase(Locale.ROOT).endsWith(".csv")) {
+            timeSeries.writeCsv(path);
+        } else {
+            timeSeries.writeBinary(path);
+        }
+        System.out.printf("[HeadlessRunner] Wrote %d time series samples to %s", timeSeries.size(), file);
+        if (timeSeries.getDroppedSamples() > 0) {
+            System.out.printf(" (%d oldest samples dropped)", timeSeries.getDroppedSamples());
+        }
+        System.out.println();
+    }
+
+    // "PORT" escucha solo en localhost; "HOST:PORT" en la dirección indicada
+    private static InetSocketAddress parseAddress(String value) {
+        try {
+            int colon = value.lastIndexOf(':');
+            if (colon < 0) {
+                return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(value));
+            }
+            return new InetSocketAddress(value.substring(0, colon), Integer.parseInt(value.substring(colon + 1)));
+        } catch (IllegalArgumentException e) {
+            System.out.println("[HeadlessRunner] Invalid metrics address: " + value);
+            System.exit(1);
+            return null;
+        }
+    }
+
+    private static WorkloadGenerator createGenerator(long count, long seed, String profile) {
+        WorkloadGenerator.Builder builder = WorkloadGenerator.builder().count(count).seed(seed);
+        switch (profile) {
+            case "bursty":
+                // Periodos tranquilos interrumpidos por ráfagas de llegadas diez veces más densas
+                builder.arrivals(ArrivalProcess.bursty(0.05, 0.5, 0.05, 0.2));
+                break;
+            case "heavy":
+                // Ráfagas CPU de cola pesada: la mayoría cortas, unas pocas muy largas
+                builder.arrivals(ArrivalProcess.poisson(0.3))
+                        .cpuBursts(IntDistribution.pareto(1, 1.5).clamp(1, 500));
+                break;
+            case "bimodal":
+                // Mezcla de procesos interactivos (ráfagas cortas) y de cómputo (ráfagas largas)
+                builder.arrivals(ArrivalProcess.poisson(0.15))
+                        .cpuBursts(IntDistribution.bimodal(0.8, IntDistribution.uniform(1, 3), IntDistribution.uniform(15, 30)));
+                break;
+            case "poisson":
+                break;
+            default:
+                System.out.println("[HeadlessRunner] Unknown profile: " + profile);
+                System.exit(1);
+        }
+        return builder.build();
+    }
+
+    private static SimulationClock parseClock(String value) {
+        switch (value.toUpperCase(Locale.ROOT)) {
+            case "REAL":
+                return new RealTimeClock();
+            case "VIRTUAL":
+                return new VirtualClock();
+            default:
+                try {
+                    return new ScaledClock(Long.parseLong(value));
+                } catch (IllegalArgumentException e) {
+                    System.out.println("[HeadlessRunner] Invalid clock: " + value);
+                    System.exit(1);
+                    return new RealTimeClock();
+                }
+        }
+    }
+
+    private static Simulator.EngineMode parseEngineMode(String value) {
+        switch (value.toUpperCase(Locale.ROOT)) {
+            case "DES":
+            case "EVENT":
+            case "DISCRETE_EVENT":
+                return Simulator.EngineMode.DISCRETE_EVENT;
+            case "TICK":
+                return Simulator.EngineMode.TICK;
+            default:
+                System.out.println("[HeadlessRunner] Unknown engine: " + value);
+                System.exit(1);
+                return Simulator.EngineMode.TICK;
+        }
     }
 }
@@ -0,0 +1,159 @@
+package simulador.core;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import simulador.io.IOManager;
+import simulador.memory.MemoryManager;
+import simulador.metrics.MetricsCollector;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Endpoint HTTP opcional que expone contadores de una simulación en curso en el formato de texto
+ * de Prometheus (GET /metrics). Solo lee el estado del simulador y nunca lo bloquea.
+ *
+ * Los valores son una foto aproximada: varios getters (largo de las colas de listos, utilización
+ * de CPU, procesos registrados) leen campos no sincronizados que el hilo del motor modifica
+ * mientras tanto, así que una consulta puede ver valores desactualizados o de instantes distintos.
+ * Sirve para monitoreo; los números exactos son los del reporte final.
+ */
+public class MetricsEndpoint implements AutoCloseable {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final Simulator simulator;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    // Última muestra para calcular ticks por segundo entre consultas
+    private long lastSampleNanos;
+    private int lastSampleTime;
+
+    public MetricsEndpoint(Simulator simulator, int port) throws IOException {
+        this(simulator, new InetSocketAddress(port));
+    }
+
+    public MetricsEndpoint(Simulator simulator, InetSocketAddress address) throws IOException {
+        this.simulator = simulator;
+        this.server = HttpServer.create(address, 0);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-endpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/metrics", this::handle);
+        this.lastSampleNanos = System.nanoTime();
+        this.lastSampleTime = simulator.getCurrentTime();
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public String getHostString() {
+        return server.getAddress().getHostString();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Texto de exposición con el estado actual
+     */
+    public synchronized String scrape() {
+        StringBuilder text = new StringBuilder();
+
+        int time = simulator.getCurrentTime();
+        long now = System.nanoTime();
+        double ticksPerSecond = now > lastSampleNanos ? (time - lastSampleTime) * 1e9 / (now - lastSampleNanos) : 0.0;
+        lastSampleNanos = now;
+        lastSampleTime = time;
+
+        gauge(text, "simulador_running", "1 while the simulation is running", simulator.isRunning() ? 1 : 0);
+        counter(text, "simulador_simulated_time_units_total", "Logical time units simulated so far", time);
+        gauge(text, "simulador_engine_ticks_per_second",
+                "Logical time units advanced per wall-clock second since the previous scrape", ticksPerSecond);
+
+        header(text, "simulador_ready_queue_depth", "Processes waiting in each core's ready queue", "gauge");
+        for (int core = 0; core < simulator.getCoreCount(); core++) {
+            text.append("simulador_ready_queue_depth{core=\"").append(core).append("\"} ")
+                    .append(simulator.getScheduler(core).size()).append('\n');
+        }
+
+        MemoryManager memory = simulator.getMemoryManager();
+        if (memory != null) {
+            gauge(text, "simulador_memory_free_frames", "Free physical frames", memory.getFreeFrames());
+            gauge(text, "simulador_memory_frames", "Total physical frames", memory.getTotalFrames());
+            counter(text, "simulador_page_faults_total", "Page faults so far", memory.getPageFaults());
+            counter(text, "simulador_page_replacements_total", "Page replacements so far", memory.getPageReplacements());
+        }
+
+        MetricsCollector metrics = simulator.getMetricsCollector();
+        gauge(text, "simulador_cpu_utilization_percent", "CPU utilization over the simulated time so far",
+                metrics.getCPUUtilization());
+        counter(text, "simulador_processes_recorded_total", "Processes whose metrics have been recorded;"
+                + " outside --stream this stays 0 until the run ends",
+                metrics.getProcessCount());
+
+        IOManager io = simulator.getIOManager();
+        gauge(text, "simulador_io_active_operations", "I/O operations in progress", io.getActiveOperationCount());
+        return text.toString();
+    }
+
+    private static void header(StringBuilder text, String name, String help, String type) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void gauge(StringBuilder text, String name, String help, double value) {
+        header(text, name, help, "gauge");
+        text.append(name).append(' ').append(format(value)).append('\n');
+    }
+
+    private static void counter(StringBuilder text, String name, String help, double value) {
+        header(text, name, help, "counter");
+        text.append(name).append(' ').append(format(value)).append('\n');
+    }
+
+    private static String format(double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            return Long.toString((long) value);
+        }
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
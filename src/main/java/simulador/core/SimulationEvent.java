@@ -0,0 +1,70 @@
+package simulador.core;
+
+import simulador.metrics.MetricsCollector;
+import simulador.process.Process;
+
+/**
+ * Evento tipado publicado por el simulador hacia los listeners asíncronos.
+ * Las instancias se reutilizan dentro del buffer circular, por eso los campos son mutables
+ * solo dentro del paquete; un listener no debe conservar la referencia fuera del callback.
+ */
+public final class SimulationEvent {
+
+    public enum Kind {
+        SIMULATION_STARTED,
+        SIMULATION_FINISHED,
+        PROCESSES_LOADED,
+        PROCESS_ARRIVED,
+        PROCESS_STARTED,
+        TIME_ADVANCED,
+        EXEC_START,
+        EXEC_END,
+        CONTEXT_SWITCH,
+        IO_STARTED,
+        IO_COMPLETED
+    }
+
+    private Kind kind;
+    private Process process;
+    private int time;   // tiempo lógico del evento (inicio en CONTEXT_SWITCH e IO_STARTED)
+    private int value;  // fin del cambio de contexto, duración de E/S o cantidad de procesos cargados
+    private int core;
+    private MetricsCollector metrics;
+
+    SimulationEvent() {
+    }
+
+    void set(Kind kind, Process process, int time, int value, int core, MetricsCollector metrics) {
+        this.kind = kind;
+        this.process = process;
+        this.time = time;
+        this.value = value;
+        this.core = core;
+        this.metrics = metrics;
+    }
+
+    void copyFrom(SimulationEvent other) {
+        set(other.kind, other.process, other.time, other.value, other.core, other.metrics);
+    }
+
+    void setTime(int time) {
+        this.time = time;
+    }
+
+    void clear() {
+        this.process = null;
+        this.metrics = null;
+    }
+
+    public Kind getKind() { return kind; }
+    public Process getProcess() { return process; }
+    public int getTime() { return time; }
+    public int getValue() { return value; }
+    public int getCore() { return core; }
+    public MetricsCollector getMetrics() { return metrics; }
+
+    @Override
+    public String toString() {
+        return kind + (process != null ? " " + process.getPid() : "") + " t=" + time;
+    }
+}
@@ -1,76 +1,195 @@
 package simulador.core;
 
+import simulador.clock.RealTimeClock;
+import simulador.clock.SimulationClock;
+import simulador.process.ArrivalQueue;
+import simulador.process.Burst;
 import simulador.process.Process;
+import simulador.process.ProcessTable;
+import simulador.process.WorkloadSource;
 import simulador.scheduler.*;
 import simulador.memory.*;
 import simulador.sync.SynchronizationManager;
 import simulador.io.IOManager;
+import simulador.jfr.ContextSwitchEvent;
+import simulador.jfr.DispatchEvent;
+import simulador.jfr.EngineTickEvent;
+import simulador.jfr.PreemptionEvent;
 import simulador.metrics.MetricsCollector;
+import simulador.metrics.TimeSeriesRecorder;
 import simulador.utils.FileParser;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.Supplier;
 
 /**
  * Simulador principal que coordina todos los módulos del sistema operativo
  */
 public class Simulator {
 
-    private final CPUScheduler scheduler;
+    private final CPUScheduler[] schedulers; // una cola de listos por núcleo
+    private final int cores;
     private final MemoryManager memoryManager;
     private final SynchronizationManager syncManager;
     private final IOManager ioManager;
     private final MetricsCollector metricsCollector;
-    private final List<Process> processes;
+    private final ProcessTable processes;
+    private final ArrivalQueue arrivals;
     private final ExecutorService executor;
     private final List<SimulationListener> listeners;
+    private final List<AsyncSimulationListener> asyncListeners;
     private final Map<String, Integer> waitingTimeUnits;
     private final Map<String, Integer> responseTimeUnits;
     private final Map<String, Integer> completionTimeUnits;
     private final int contextSwitchCost;
+    private final SimulationClock clock;
     private volatile boolean running;
+    private volatile CountDownLatch finished;
+    private boolean ganttLogEnabled;
+    private boolean retireTerminated; // carga en streaming: los terminados se acumulan y se liberan
+    private EngineMode engineMode;
+    private TimeSeriesRecorder timeSeries;
     private int currentTime;
-    private int contextSwitchRemaining;
-    private int contextSwitchStartTime;
+    private int blockedProcesses;
+    private final Process[] runningProcesses;
+    private final int[] contextSwitchRemaining;
+    private final int[] contextSwitchStartTime;
 
     public Simulator(CPUScheduler scheduler, MemoryManager memoryManager) {
         this(scheduler, memoryManager, 0);
     }
 
     public Simulator(CPUScheduler scheduler, MemoryManager memoryManager, int contextSwitchCost) {
-        this.scheduler = scheduler;
+        this(scheduler, memoryManager, contextSwitchCost, new RealTimeClock());
+    }
+
+    public Simulator(CPUScheduler scheduler, MemoryManager memoryManager, int contextSwitchCost, SimulationClock clock) {
+        this(() -> scheduler, 1, memoryManager, contextSwitchCost, clock);
+    }
+
+    /**
+     * Simulador con varios núcleos: cada núcleo tiene su propia cola de listos creada con
+     * schedulerFactory, y un núcleo ocioso roba trabajo de la cola más cargada
+     */
+    public Simulator(Supplier<CPUScheduler> schedulerFactory, int cores, MemoryManager memoryManager,
+                     int contextSwitchCost, SimulationClock clock) {
+        if (cores < 1) {
+            throw new IllegalArgumentException("cores must be >= 1");
+        }
+        this.cores = cores;
+        this.schedulers = new CPUScheduler[cores];
+        for (int core = 0; core < cores; core++) {
+            schedulers[core] = schedulerFactory.get();
+        }
         this.memoryManager = memoryManager;
-        this.syncManager = new SynchronizationManager();
-        this.ioManager = new IOManager();
-        this.metricsCollector = new MetricsCollector();
-        this.processes = new ArrayList<>();
+        this.clock = clock;
+        this.syncManager = new SynchronizationManager(cores);
+        this.ioManager = new IOManager(clock);
+        this.metricsCollector = new MetricsCollector(clock);
+        this.metricsCollector.setCoreCount(cores);
+        this.processes = new ProcessTable();
+        this.arrivals = new ArrivalQueue();
         this.executor = Executors.newCachedThreadPool();
-        this.listeners = new ArrayList<>();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.asyncListeners = new CopyOnWriteArrayList<>();
         this.running = false;
+        this.finished = new CountDownLatch(0);
+        this.ganttLogEnabled = true;
+        this.engineMode = EngineMode.TICK;
         this.currentTime = 0;
         this.waitingTimeUnits = new HashMap<>();
         this.responseTimeUnits = new HashMap<>();
         this.completionTimeUnits = new HashMap<>();
         this.contextSwitchCost = Math.max(0, contextSwitchCost);
-        this.contextSwitchRemaining = 0;
-        this.contextSwitchStartTime = 0;
+        this.runningProcesses = new Process[cores];
+        this.contextSwitchRemaining = new int[cores];
+        this.contextSwitchStartTime = new int[cores];
     }
 
     /**
      * Carga procesos desde un archivo
      */
     public void loadProcessesFromFile(String filePath) throws IOException {
-        List<Process> loadedProcesses = FileParser.parseProcessFile(filePath);
+        loadProcessesFromFile(filePath, false);
+    }
+
+    /**
+     * Carga procesos desde un archivo; con parallelParse los archivos de texto se leen en paralelo
+     */
+    public void loadProcessesFromFile(String filePath, boolean parallelParse) throws IOException {
+        List<Process> loadedProcesses = parallelParse
+                ? FileParser.parseProcessFileParallel(filePath)
+                : FileParser.parseProcessFile(filePath);
         processes.addAll(loadedProcesses);
+        arrivals.addAll(loadedProcesses);
         notifyProcessesLoaded(loadedProcesses.size());
     }
 
+    /**
+     * Consume la carga bajo demanda desde una fuente ordenada por llegada. Los procesos terminados
+     * se vuelcan a las métricas acumuladas y se liberan, así la memoria no crece con la carga.
+     */
+    public void loadProcessesFrom(WorkloadSource source) {
+        if (running) {
+            throw new IllegalStateException("Cannot change the workload while the simulation is running");
+        }
+        arrivals.setSource(source);
+        retireTerminated = true;
+        metricsCollector.setRetainProcessMetrics(false);
+    }
+
+    /**
+     * Igual que loadProcessesFromFile, pero leyendo el archivo a medida que llegan los procesos
+     */
+    public void streamProcessesFromFile(String filePath) throws IOException {
+        loadProcessesFrom(FileParser.openProcessFile(filePath));
+    }
+
     /**
      * Agrega un proceso manualmente
      */
     public void addProcess(Process process) {
         processes.add(process);
+        arrivals.add(process);
+    }
+
+    /**
+     * Selecciona el motor de ejecución (debe llamarse antes de start())
+     */
+    public void setEngineMode(EngineMode engineMode) {
+        if (running) {
+            throw new IllegalStateException("Cannot change engine mode while the simulation is running");
+        }
+        this.engineMode = engineMode;
+    }
+
+    public EngineMode getEngineMode() {
+        return engineMode;
+    }
+
+    /**
+     * Registra una serie temporal de indicadores del motor durante la simulación (null la desactiva;
+     * debe llamarse antes de start())
+     */
+    public void setTimeSeriesRecorder(TimeSeriesRecorder timeSeries) {
+        if (running) {
+            throw new IllegalStateException("Cannot change the time series recorder while the simulation is running");
+        }
+        this.timeSeries = timeSeries;
+    }
+
+    public TimeSeriesRecorder getTimeSeriesRecorder() {
+        return timeSeries;
+    }
+
+    /**
+     * Activa o desactiva el registro en simulation-gantt.log (útil al ejecutar varias simulaciones a la vez)
+     */
+    public void setGanttLogEnabled(boolean ganttLogEnabled) {
+        this.ganttLogEnabled = ganttLogEnabled;
     }
 
     /**
@@ -81,11 +200,38 @@ public class Simulator {
             return;
         }
 
+        begin();
+        executor.submit(this::runSimulation);
+    }
+
+    /**
+     * Ejecuta la simulación completa en el hilo actual y retorna al terminar
+     */
+    public void run() {
+        if (running) {
+            return;
+        }
+
+        begin();
+        runSimulation();
+    }
+
+    private void begin() {
+        finished = new CountDownLatch(1);
         running = true;
         metricsCollector.startSimulation();
         notifySimulationStarted();
+    }
 
-        executor.submit(this::runSimulation);
+    /**
+     * Bloquea hasta que la simulación iniciada con start() termine
+     */
+    public void awaitCompletion() throws InterruptedException {
+        finished.await();
+    }
+
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
     }
 
     /**
@@ -94,7 +240,7 @@ public class Simulator {
     private void runSimulation() {
         try {
             // Ordenar procesos por tiempo de llegada
-            processes.sort(Comparator.comparingInt(Process::getArrivalTime));
+            processes.sortByArrival();
 
             waitingTimeUnits.clear();
             responseTimeUnits.clear();
@@ -102,152 +248,230 @@ public class Simulator {
             synchronized (this) {
                 currentTime = 0;
             }
-            contextSwitchRemaining = 0;
+            blockedProcesses = 0;
+            if (timeSeries != null) {
+                timeSeries.reset();
+            }
+            Arrays.fill(runningProcesses, null);
+            Arrays.fill(contextSwitchRemaining, 0);
+            Arrays.fill(contextSwitchStartTime, -1);
 
             // We'll run a single tick-driven loop here to avoid races between threads.
             Map<String, Integer> remainingBurst = new HashMap<>();
             Map<String, Integer> quantumRemaining = new HashMap<>();
-            Process currentProcess = null;
-            int currentQuantumLeft = Integer.MAX_VALUE;
 
             while (running && !allProcessesTerminated()) {
-                if (contextSwitchRemaining > 0) {
-                    Thread.sleep(100);
-                    metricsCollector.addContextSwitchTime(100L);
-                    advanceTime(1);
-                    accumulateWaitingTime(null);
-                    contextSwitchRemaining--;
-                    if (contextSwitchRemaining == 0) {
-                        notifyContextSwitch(contextSwitchStartTime, getCurrentTime());
+                EngineTickEvent tickEvent = EngineTickEvent.start();
+
+                // Las llegadas y finalizaciones de E/S se atienden cuando algún núcleo
+                // no está en medio de un cambio de contexto
+                boolean anyCoreAvailable = false;
+                for (int core = 0; core < cores; core++) {
+                    if (contextSwitchRemaining[core] == 0) {
+                        anyCoreAvailable = true;
+                        break;
                     }
-                    continue;
                 }
 
-                // 1) Handle any I/O completions first
-                IOManager.IOCompletion completion;
-                while ((completion = ioManager.pollCompletion()) != null) {
-                    Process p = findProcessByPid(completion.getPid());
-                    if (p != null) {
-                        p.setState(Process.State.READY);
-                        scheduler.addProcess(p);
-                        notifyIOCompleted(p, getCurrentTime());
+                if (anyCoreAvailable) {
+                    // 1) Handle any I/O completions first
+                    IOManager.IOCompletion completion;
+                    while ((completion = ioManager.pollCompletion(getCurrentTime())) != null) {
+                        Process p = processes.get(completion.getPid());
+                        if (p != null) {
+                            blockedProcesses--;
+                            enterReady(p);
+                            schedulers[p.getLastCore() >= 0 ? p.getLastCore() : leastLoadedCore()].addProcess(p);
+                            notifyIOCompleted(p, getCurrentTime());
+                        }
                     }
-                }
 
-                // 2) Handle arrivals at this time
-                for (Process process : processes) {
-                    if (process.getState() == Process.State.NEW && process.getArrivalTime() <= getCurrentTime()) {
+                    // 2) Handle arrivals at this time
+                    Process arrived;
+                    while ((arrived = arrivals.pollArrived(getCurrentTime())) != null) {
+                        if (arrived.getState() != Process.State.NEW) {
+                            continue;
+                        }
+                        if (!processes.contains(arrived)) {
+                            processes.add(arrived); // llegó desde la fuente en streaming
+                        }
                         if (memoryManager != null) {
-                            memoryManager.initializeProcess(process);
+                            memoryManager.initializeProcess(arrived);
+                        }
+                        schedulers[leastLoadedCore()].addProcess(arrived);
+                        enterReady(arrived);
+                        notifyProcessArrived(arrived);
+                    }
+
+                    // 2b) SRTF: if a queued process has less remaining time than the running one, preempt it
+                    for (int core = 0; core < cores; core++) {
+                        Process current = runningProcesses[core];
+                        if (current == null || contextSwitchRemaining[core] > 0 || !(schedulers[core] instanceof SRTF)) {
+                            continue;
+                        }
+                        SRTF srtf = (SRTF) schedulers[core];
+                        int rem = remainingBurst.getOrDefault(current.getPid(), 0);
+                        if (srtf.peekRemainingTime() < rem) {
+                            PreemptionEvent.emit(current.getPid(), getCurrentTime(), core, rem);
+                            notifyProcessExecEnd(current, getCurrentTime(), core);
+                            enterReady(current);
+                            srtf.addProcess(current, rem);
+                            startContextSwitch(core);
+                            runningProcesses[core] = null;
                         }
-                        scheduler.addProcess(process);
-                        process.setState(Process.State.READY);
-                        notifyProcessArrived(process);
                     }
-                }
 
-                // 3) If no current process, get one from scheduler
-                if (currentProcess == null) {
-                    currentProcess = scheduler.getNextProcess();
-                    if (currentProcess != null) {
+                    // 3) Each free core takes a process from its queue, or steals one
+                    for (int core = 0; core < cores; core++) {
+                        if (runningProcesses[core] != null || contextSwitchRemaining[core] > 0) {
+                            continue;
+                        }
+                        Process next = schedulers[core].getNextProcess();
+                        if (next == null) {
+                            next = stealProcess(core);
+                        }
+                        if (next == null) {
+                            continue;
+                        }
+                        runningProcesses[core] = next;
+                        DispatchEvent.emit(next.getPid(), getCurrentTime(), core, schedulers[core].size());
+                        next.setLastCore(core);
+                        leaveReady(next);
                         if (memoryManager != null) {
-                            memoryManager.loadPages(currentProcess, currentProcess.getPages());
+                            memoryManager.loadPages(next, next.getPages());
                         }
                         // Initialize remaining burst if needed (do NOT reset on every selection)
-                        int idx = currentProcess.getCurrentBurstIndex();
-                        String burst = currentProcess.getBursts().get(idx);
-                        if (burst.startsWith("CPU")) {
-                            int start = burst.indexOf('(') + 1;
-                            int end = burst.indexOf(')');
-                            int duration = Integer.parseInt(burst.substring(start, end));
-                            remainingBurst.putIfAbsent(currentProcess.getPid(), duration);
+                        Burst burst = next.getCurrentBurst();
+                        if (burst != null && burst.isCPU()) {
+                            remainingBurst.putIfAbsent(next.getPid(), burst.getDuration());
                         }
-                        currentProcess.setState(Process.State.RUNNING);
+                        next.setState(Process.State.RUNNING);
                         int q = Integer.MAX_VALUE;
-                        if (scheduler instanceof RoundRobin) q = ((RoundRobin) scheduler).getQuantum();
-                        quantumRemaining.put(currentProcess.getPid(), q);
-                        currentQuantumLeft = quantumRemaining.get(currentProcess.getPid());
-                        if (!responseTimeUnits.containsKey(currentProcess.getPid())) {
-                            int responseUnits = Math.max(0, getCurrentTime() - currentProcess.getArrivalTime());
-                            responseTimeUnits.put(currentProcess.getPid(), responseUnits);
-                            if (currentProcess.getStartTime() == 0) {
-                                currentProcess.setStartTime(System.currentTimeMillis());
+                        if (schedulers[core] instanceof RoundRobin) q = ((RoundRobin) schedulers[core]).getQuantum();
+                        quantumRemaining.put(next.getPid(), q);
+                        if (!responseTimeUnits.containsKey(next.getPid())) {
+                            int responseUnits = Math.max(0, getCurrentTime() - next.getArrivalTime());
+                            responseTimeUnits.put(next.getPid(), responseUnits);
+                            if (next.getStartTime() == 0) {
+                                next.setStartTime(System.currentTimeMillis());
                             }
                         }
-                        notifyProcessExecStart(currentProcess, getCurrentTime());
+                        notifyProcessExecStart(next, getCurrentTime(), core);
                     }
                 }
 
-                // 3) Execute one time unit for currentProcess if exists
-                if (currentProcess != null) {
-                    // Execute 1 unit
-                    Thread.sleep(100);
-                    metricsCollector.addCPUTime(100L);
-                    // decrement remaining and quantum
-                    String pid = currentProcess.getPid();
-                    int rem = remainingBurst.getOrDefault(pid, 0) - 1;
-                    remainingBurst.put(pid, rem);
-                    int qleft = quantumRemaining.getOrDefault(pid, Integer.MAX_VALUE) - 1;
-                    quantumRemaining.put(pid, qleft);
+                // La muestra refleja el estado con el que transcurre el siguiente paso
+                if (timeSeries != null && timeSeries.isDue(currentTime)) {
+                    sampleTimeSeries();
+                }
 
-                    // advance logical time by 1
-                    advanceTime(1);
+                // 4) Tick mode advances 1 unit; event mode advances until the first burst end,
+                // quantum expiry, context switch end, arrival or I/O completion on any core
+                int units = 1;
+                if (engineMode == EngineMode.DISCRETE_EVENT) {
+                    int step = Integer.MAX_VALUE;
+                    for (int core = 0; core < cores; core++) {
+                        Process current = runningProcesses[core];
+                        if (contextSwitchRemaining[core] > 0) {
+                            step = Math.min(step, contextSwitchRemaining[core]);
+                        } else if (current != null) {
+                            step = Math.min(step, remainingBurst.getOrDefault(current.getPid(), 0));
+                            step = Math.min(step, quantumRemaining.getOrDefault(current.getPid(), Integer.MAX_VALUE));
+                        }
+                    }
+                    if (anyCoreAvailable) {
+                        step = Math.min(step, unitsUntilNextEvent());
+                    }
+                    units = step == Integer.MAX_VALUE ? 1 : Math.max(1, step);
+                }
+                sleepUnits(units);
+                for (int core = 0; core < cores; core++) {
+                    Process current = runningProcesses[core];
+                    if (contextSwitchRemaining[core] > 0) {
+                        metricsCollector.addContextSwitchUnits(core, units);
+                        contextSwitchRemaining[core] -= units;
+                    } else if (current != null) {
+                        metricsCollector.addCPUUnits(core, units);
+                        // decrement remaining and quantum
+                        String pid = current.getPid();
+                        remainingBurst.put(pid, remainingBurst.getOrDefault(pid, 0) - units);
+                        int qleft = quantumRemaining.getOrDefault(pid, Integer.MAX_VALUE);
+                        if (qleft != Integer.MAX_VALUE) {
+                            quantumRemaining.put(pid, qleft - units);
+                        }
+                    } else {
+                        metricsCollector.addIdleUnits(core, units);
+                    }
+                }
 
-                    accumulateWaitingTime(pid);
+                // advance logical time
+                advanceTime(units);
+
+                // 5) Close context switches and handle burst completion / quantum expiry per core
+                for (int core = 0; core < cores; core++) {
+                    Process current = runningProcesses[core];
+                    if (current == null) {
+                        if (contextSwitchRemaining[core] == 0 && contextSwitchStartTime[core] >= 0) {
+                            ContextSwitchEvent.emit(core, contextSwitchStartTime[core], getCurrentTime());
+                            notifyContextSwitch(contextSwitchStartTime[core], getCurrentTime(), core);
+                            contextSwitchStartTime[core] = -1;
+                        }
+                        continue;
+                    }
+                    String pid = current.getPid();
+                    int rem = remainingBurst.getOrDefault(pid, 0);
+                    int qleft = quantumRemaining.getOrDefault(pid, Integer.MAX_VALUE);
 
                     // Check burst completion
                     if (rem <= 0) {
                         // CPU burst finished
-                        notifyProcessExecEnd(currentProcess, getCurrentTime());
-                        currentProcess.setCurrentBurstIndex(currentProcess.getCurrentBurstIndex() + 1);
+                        notifyProcessExecEnd(current, getCurrentTime(), core);
+                        current.setCurrentBurstIndex(current.getCurrentBurstIndex() + 1);
                         // cleanup remaining/quantum for this pid
                         remainingBurst.remove(pid);
                         quantumRemaining.remove(pid);
                         // If next is I/O, start it
-                        if (currentProcess.getCurrentBurstIndex() < currentProcess.getBursts().size()) {
-                            String nextBurst = currentProcess.getBursts().get(currentProcess.getCurrentBurstIndex());
-                            if (nextBurst.startsWith("E/S") || nextBurst.startsWith("I/O")) {
-                                int s = nextBurst.indexOf('(') + 1;
-                                int e = nextBurst.indexOf(')');
-                                int dur = Integer.parseInt(nextBurst.substring(s, e));
-                                currentProcess.setState(Process.State.BLOCKED);
-                                ioManager.startIOOperation(currentProcess, dur * 100);
-                                notifyIOStarted(currentProcess, getCurrentTime(), dur);
+                        Burst nextBurst = current.getCurrentBurst();
+                        if (nextBurst != null) {
+                            if (nextBurst.isIO()) {
+                                int dur = nextBurst.getDuration();
+                                current.setState(Process.State.BLOCKED);
+                                blockedProcesses++;
+                                ioManager.scheduleIOOperation(current, getCurrentTime(), dur);
+                                notifyIOStarted(current, getCurrentTime(), dur);
                             } else {
                                 // Next is CPU: requeue
-                                currentProcess.setState(Process.State.READY);
-                                scheduler.addProcess(currentProcess);
+                                enterReady(current);
+                                schedulers[core].addProcess(current);
                             }
                         } else {
                             // Process finished all bursts
-                            currentProcess.setState(Process.State.TERMINATED);
+                            current.setState(Process.State.TERMINATED);
                             completionTimeUnits.put(pid, getCurrentTime());
-                            // ensure maps cleaned
-                            remainingBurst.remove(pid);
-                            quantumRemaining.remove(pid);
-                            currentProcess.setFinishTime(System.currentTimeMillis());
+                            current.setFinishTime(System.currentTimeMillis());
                             if (memoryManager != null) {
                                 memoryManager.releaseProcessPages(pid);
                             }
+                            if (retireTerminated) {
+                                retire(current);
+                            }
                         }
                         if (!allProcessesTerminated()) {
-                            startContextSwitch(pid);
+                            startContextSwitch(core);
                         }
-                        currentProcess = null;
+                        runningProcesses[core] = null;
                     } else if (qleft <= 0) {
                         // quantum expired: preempt
-                        notifyProcessExecEnd(currentProcess, getCurrentTime());
-                        currentProcess.setState(Process.State.READY);
-                        scheduler.addProcess(currentProcess);
-                        startContextSwitch(pid);
-                        currentProcess = null;
+                        PreemptionEvent.emit(pid, getCurrentTime(), core, rem);
+                        notifyProcessExecEnd(current, getCurrentTime(), core);
+                        enterReady(current);
+                        schedulers[core].addProcess(current);
+                        startContextSwitch(core);
+                        runningProcesses[core] = null;
                     }
-                } else {
-                    // idle tick
-                    Thread.sleep(100);
-                    metricsCollector.addIdleTime(100L);
-                    advanceTime(1);
-                    accumulateWaitingTime(null);
+                }
+                if (tickEvent != null) {
+                    tickEvent.finish(currentTime - units, units, runningProcesses);
                 }
             }
 
@@ -256,9 +480,43 @@ public class Simulator {
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            finished.countDown();
+        } catch (UncheckedIOException e) {
+            System.err.println("[Simulator] Error reading workload: " + e.getCause().getMessage());
+            finishSimulation();
         }
     }
 
+    private void sampleTimeSeries() {
+        int ready = 0;
+        for (CPUScheduler scheduler : schedulers) {
+            ready += scheduler.size();
+        }
+        int freeFrames = memoryManager != null ? memoryManager.getFreeFrames() : 0;
+        int pageFaults = memoryManager != null ? memoryManager.getPageFaults() : 0;
+        timeSeries.record(currentTime, ready, runningProcesses, freeFrames, pageFaults, blockedProcesses,
+                ioManager.getActiveOperationCount());
+    }
+
+    // Vuelca las métricas de un proceso terminado y lo quita de las estructuras de la simulación
+    private void retire(Process process) {
+        recordMetrics(process);
+        String pid = process.getPid();
+        waitingTimeUnits.remove(pid);
+        responseTimeUnits.remove(pid);
+        completionTimeUnits.remove(pid);
+        processes.remove(process);
+    }
+
+    private void recordMetrics(Process process) {
+        String pid = process.getPid();
+        long waitingMs = clock.toMillis(waitingTimeUnits.getOrDefault(pid, 0));
+        int completionUnits = completionTimeUnits.getOrDefault(pid, getCurrentTime());
+        long turnaroundMs = clock.toMillis(Math.max(0, completionUnits - process.getArrivalTime()));
+        long responseMs = clock.toMillis(responseTimeUnits.getOrDefault(pid, 0));
+        metricsCollector.recordProcess(process, waitingMs, turnaroundMs, responseMs);
+    }
+
     /**
      * Detiene la simulación
      */
@@ -272,15 +530,15 @@ public class Simulator {
         metricsCollector.endSimulation();
 
         // Recolectar métricas
-        for (Process process : processes) {
-            String pid = process.getPid();
-            long waitingMs = waitingTimeUnits.getOrDefault(pid, 0) * 100L;
-            int completionUnits = completionTimeUnits.getOrDefault(pid, getCurrentTime());
-            long turnaroundMs = Math.max(0, completionUnits - process.getArrivalTime()) * 100L;
-            long responseMs = responseTimeUnits.getOrDefault(pid, 0) * 100L;
-            metricsCollector.recordProcess(process, waitingMs, turnaroundMs, responseMs);
+        for (Process process : processes.snapshot()) {
+            // Cerrar la espera de los procesos que siguen en READY
+            if (process.getState() == Process.State.READY) {
+                leaveReady(process);
+            }
+            recordMetrics(process);
         }
 
+        metricsCollector.closeProcessSpill();
         metricsCollector.setPageFaults(memoryManager.getPageFaults());
         metricsCollector.setPageReplacements(memoryManager.getPageReplacements());
 
@@ -289,24 +547,15 @@ public class Simulator {
         executor.shutdown();
 
         notifySimulationFinished();
-    }
-
-    private boolean allProcessesTerminated() {
-        for (Process process : processes) {
-            if (process.getState() != Process.State.TERMINATED) {
-                return false;
-            }
+        for (AsyncSimulationListener listener : asyncListeners) {
+            listener.close();
         }
-        return true;
+        finished.countDown();
     }
 
-    private Process findProcessByPid(String pid) {
-        for (Process process : processes) {
-            if (process.getPid().equals(pid)) {
-                return process;
-            }
-        }
-        return null;
+    private boolean allProcessesTerminated() {
+        // Con streaming, los procesos que aún no llegaron no están en la tabla
+        return processes.allTerminated() && arrivals.isEmpty();
     }
 
     // Getters
@@ -319,11 +568,31 @@ public class Simulator {
     }
 
     public CPUScheduler getScheduler() {
-        return scheduler;
+        return schedulers[0];
+    }
+
+    public CPUScheduler getScheduler(int core) {
+        return schedulers[core];
+    }
+
+    public int getCoreCount() {
+        return cores;
+    }
+
+    public IOManager getIOManager() {
+        return ioManager;
+    }
+
+    public SimulationClock getClock() {
+        return clock;
     }
 
     public List<Process> getProcesses() {
-        return new ArrayList<>(processes);
+        return processes.snapshot();
+    }
+
+    public ProcessTable getProcessTable() {
+        return processes;
     }
 
     public boolean isRunning() {
@@ -339,10 +608,15 @@ public class Simulator {
      * @param delta unidades a avanzar
      * @return el nuevo tiempo actual
      */
-    public synchronized int advanceTime(int delta) {
-        this.currentTime += delta;
-        notifyTimeAdvanced(this.currentTime);
-        return this.currentTime;
+    public int advanceTime(int delta) {
+        int now;
+        synchronized (this) {
+            this.currentTime += delta;
+            now = this.currentTime;
+        }
+        // Se notifica fuera del monitor: un listener bloqueado no debe impedir getCurrentTime()
+        notifyTimeAdvanced(now);
+        return now;
     }
 
     // Sistema de eventos para la UI
@@ -350,6 +624,17 @@ public class Simulator {
         listeners.add(listener);
     }
 
+    /**
+     * Registra un listener que recibe los eventos en su propio hilo, por lotes, sin frenar la simulación.
+     * El envoltorio se cierra automáticamente al terminar la simulación.
+     */
+    public AsyncSimulationListener addListener(SimulationListener listener, AsyncSimulationListener.Backpressure policy) {
+        AsyncSimulationListener async = new AsyncSimulationListener(listener, policy);
+        asyncListeners.add(async);
+        listeners.add(async);
+        return async;
+    }
+
     private void notifySimulationStarted() {
         for (SimulationListener listener : listeners) {
             listener.onSimulationStarted();
@@ -386,15 +671,58 @@ public class Simulator {
         }
     }
 
-    private void startContextSwitch(String fromPid) {
+    private void startContextSwitch(int core) {
         if (contextSwitchCost <= 0) {
             return;
         }
-        if (contextSwitchRemaining > 0) {
+        if (contextSwitchRemaining[core] > 0) {
             return;
         }
-        contextSwitchRemaining = contextSwitchCost;
-        contextSwitchStartTime = getCurrentTime();
+        contextSwitchRemaining[core] = contextSwitchCost;
+        contextSwitchStartTime[core] = getCurrentTime();
+    }
+
+    /**
+     * Núcleo con menos trabajo (cola + proceso en ejecución o cambio de contexto)
+     */
+    private int leastLoadedCore() {
+        int best = 0;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int core = 0; core < cores; core++) {
+            int load = schedulers[core].size();
+            if (runningProcesses[core] != null || contextSwitchRemaining[core] > 0) {
+                load++;
+            }
+            if (load < bestLoad) {
+                best = core;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Un núcleo ocioso toma el siguiente proceso de la cola más cargada
+     */
+    private Process stealProcess(int thief) {
+        int victim = -1;
+        int victimSize = 0;
+        for (int core = 0; core < cores; core++) {
+            int size = schedulers[core].size();
+            if (core != thief && size > victimSize) {
+                victim = core;
+                victimSize = size;
+            }
+        }
+        return victim >= 0 ? schedulers[victim].getNextProcess() : null;
+    }
+
+    /**
+     * Motor de ejecución: TICK avanza una unidad por iteración durmiendo según el reloj,
+     * DISCRETE_EVENT salta el reloj lógico hasta el próximo evento sin dormir.
+     */
+    public enum EngineMode {
+        TICK, DISCRETE_EVENT
     }
 
     /**
@@ -411,17 +739,28 @@ public class Simulator {
         default void onProcessExecStart(Process process, int time) {}
         default void onProcessExecEnd(Process process, int time) {}
         default void onContextSwitch(int startTime, int endTime) {}
+        // Variantes con núcleo; por defecto delegan en las versiones de un solo núcleo
+        default void onProcessExecStart(Process process, int time, int core) { onProcessExecStart(process, time); }
+        default void onProcessExecEnd(Process process, int time, int core) { onProcessExecEnd(process, time); }
+        default void onContextSwitch(int startTime, int endTime, int core) { onContextSwitch(startTime, endTime); }
         default void onIOStarted(Process process, int startTime, int duration) {}
         default void onIOCompleted(Process process, int time) {}
     }
 
     public void notifyProcessExecStart(Process process, int time) {
+        notifyProcessExecStart(process, time, 0);
+    }
+
+    public void notifyProcessExecStart(Process process, int time, int core) {
         for (SimulationListener listener : listeners) {
-            listener.onProcessExecStart(process, time);
+            listener.onProcessExecStart(process, time, core);
         }
         // persist to logfile for Gantt verification
+        if (!ganttLogEnabled) {
+            return;
+        }
         try {
-            SimulationLogger.log("START " + process.getPid() + " " + time);
+            SimulationLogger.log("START " + process.getPid() + " " + time + coreSuffix(core));
         } catch (Exception e) {
             System.err.println("[Simulator] Failed to write exec start log: " + e.getMessage());
         }
@@ -441,37 +780,78 @@ public class Simulator {
     }
 
     public void notifyProcessExecEnd(Process process, int time) {
+        notifyProcessExecEnd(process, time, 0);
+    }
+
+    public void notifyProcessExecEnd(Process process, int time, int core) {
         for (SimulationListener listener : listeners) {
-            listener.onProcessExecEnd(process, time);
+            listener.onProcessExecEnd(process, time, core);
+        }
+        if (!ganttLogEnabled) {
+            return;
         }
         try {
-            SimulationLogger.log("END " + process.getPid() + " " + time);
+            SimulationLogger.log("END " + process.getPid() + " " + time + coreSuffix(core));
         } catch (Exception e) {
             System.err.println("[Simulator] Failed to write exec end log: " + e.getMessage());
         }
     }
 
-    private void notifyContextSwitch(int startTime, int endTime) {
+    private void notifyContextSwitch(int startTime, int endTime, int core) {
         if (endTime <= startTime) {
             return;
         }
         for (SimulationListener listener : listeners) {
-            listener.onContextSwitch(startTime, endTime);
+            listener.onContextSwitch(startTime, endTime, core);
+        }
+        if (!ganttLogEnabled) {
+            return;
         }
         try {
-            SimulationLogger.log("CS " + startTime + " " + endTime);
+            SimulationLogger.log("CS " + startTime + " " + endTime + coreSuffix(core));
         } catch (Exception e) {
             System.err.println("[Simulator] Failed to write context switch log: " + e.getMessage());
         }
     }
 
-    private void accumulateWaitingTime(String runningPidThisTick) {
-        for (Process process : processes) {
-            if (process.getState() == Process.State.READY) {
-                if (runningPidThisTick == null || !process.getPid().equals(runningPidThisTick)) {
-                    waitingTimeUnits.merge(process.getPid(), 1, Integer::sum);
-                }
-            }
+    // El log de un solo núcleo conserva su formato original
+    private String coreSuffix(int core) {
+        return cores > 1 ? " CPU" + core : "";
+    }
+
+    /**
+     * Pasa el proceso a READY y registra desde cuándo espera
+     */
+    private void enterReady(Process process) {
+        process.setState(Process.State.READY);
+        process.setReadySince(getCurrentTime());
+    }
+
+    /**
+     * Suma al tiempo de espera el intervalo transcurrido desde que el proceso entró a READY
+     */
+    private void leaveReady(Process process) {
+        int since = process.getReadySince();
+        if (since < 0) {
+            return;
+        }
+        waitingTimeUnits.merge(process.getPid(), getCurrentTime() - since, Integer::sum);
+        process.setReadySince(-1);
+    }
+
+    /**
+     * Unidades que faltan para la próxima llegada o finalización de E/S
+     * (Integer.MAX_VALUE si no queda ninguna pendiente)
+     */
+    private int unitsUntilNextEvent() {
+        int now = getCurrentTime();
+        int next = Math.min(ioManager.nextCompletionTime(), arrivals.peekArrivalTime());
+        return next == Integer.MAX_VALUE ? Integer.MAX_VALUE : next - now;
+    }
+
+    private void sleepUnits(int units) throws InterruptedException {
+        if (engineMode == EngineMode.TICK) {
+            clock.sleepUnits(units);
         }
     }
 }
@@ -0,0 +1,325 @@
+package simulador.core;
+
+import simulador.clock.SimulationClock;
+import simulador.clock.VirtualClock;
+import simulador.memory.FIFO;
+import simulador.memory.LRU;
+import simulador.memory.MemoryManager;
+import simulador.memory.Optimal;
+import simulador.memory.PageReplacement;
+import simulador.metrics.MetricsCollector;
+import simulador.process.Process;
+import simulador.scheduler.CPUScheduler;
+import simulador.scheduler.FCFS;
+import simulador.scheduler.RoundRobin;
+import simulador.scheduler.SJF;
+import simulador.scheduler.SRTF;
+import simulador.utils.FileParser;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * Barrido de parámetros: ejecuta todas las combinaciones de planificador × quantum × costo de
+ * cambio de contexto × marcos × algoritmo de reemplazo en paralelo (un Simulator por combinación)
+ * y escribe un único CSV consolidado, en el orden de la grilla.
+ */
+public class SweepRunner {
+
+    private static final String CSV_HEADER = "scheduler,quantum,cs,frames,replacement,cores,processes,"
+            + "avg_waiting_ms,avg_turnaround_ms,avg_response_ms,cpu_utilization,context_switch_ms,"
+            + "page_faults,page_replacements,makespan_units";
+    private static final List<String> SCHEDULERS = List.of("FCFS", "SJF", "SRTF", "RR");
+    private static final List<String> REPLACEMENTS = List.of("FIFO", "LRU", "OPTIMAL", "OPT");
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            printUsageAndExit();
+        }
+
+        String file = null;
+        List<String> schedulers = List.of("FCFS", "SJF", "RR");
+        List<Integer> quanta = List.of(3);
+        List<Integer> contextSwitchCosts = List.of(0);
+        List<Integer> frames = List.of(256);
+        List<String> replacements = List.of("FIFO");
+        int cores = 1;
+        Simulator.EngineMode engineMode = Simulator.EngineMode.DISCRETE_EVENT;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        String out = "sweep.csv";
+
+        for (int argIndex = 0; argIndex < args.length; argIndex++) {
+            String token = args[argIndex];
+            String option = token.toLowerCase(Locale.ROOT);
+            String value = null;
+            int eq = option.indexOf('=');
+            if (option.startsWith("--") && eq > 0) {
+                value = token.substring(eq + 1);
+                option = option.substring(0, eq);
+            } else if (option.startsWith("--")) {
+                if (argIndex + 1 >= args.length) {
+                    System.out.println("[SweepRunner] Missing value for " + token + " option.");
+                    System.exit(1);
+                }
+                value = args[++argIndex];
+            }
+
+            switch (option) {
+                case "--schedulers":
+                    schedulers = parseNames(value, SCHEDULERS, "scheduler");
+                    break;
+                case "--quanta":
+                    quanta = parseInts(value);
+                    break;
+                case "--cs":
+                    contextSwitchCosts = parseInts(value);
+                    break;
+                case "--frames":
+                    frames = parseInts(value);
+                    break;
+                case "--replacement":
+                    replacements = parseNames(value, REPLACEMENTS, "replacement algorithm");
+                    break;
+                case "--cores":
+                    cores = parsePositiveInt(value, "--cores");
+                    break;
+                case "--engine":
+                    engineMode = parseEngineMode(value);
+                    break;
+                case "--parallelism":
+                    parallelism = parsePositiveInt(value, "--parallelism");
+                    break;
+                case "--out":
+                    out = value;
+                    break;
+                default:
+                    if (value == null && file == null && !token.startsWith("-")) {
+                        file = token;
+                    } else {
+                        System.out.println("[SweepRunner] Unknown argument: " + token);
+                        printUsageAndExit();
+                    }
+            }
+        }
+
+        if (file == null) {
+            System.out.println("[SweepRunner] Missing process file argument.");
+            System.exit(1);
+        }
+
+        // El archivo se parsea una sola vez; cada ejecución trabaja sobre copias limpias
+        List<Process> workload = FileParser.parseProcessFile(file);
+
+        List<Config> grid = new ArrayList<>();
+        for (String scheduler : schedulers) {
+            List<Integer> schedulerQuanta = "RR".equals(scheduler) ? quanta : List.of(0);
+            for (int quantum : schedulerQuanta) {
+                for (int cs : contextSwitchCosts) {
+                    for (int frameCount : frames) {
+                        for (String replacement : replacements) {
+                            grid.add(new Config(scheduler, quantum, cs, frameCount, replacement, cores));
+                        }
+                    }
+                }
+            }
+        }
+
+        System.out.printf("[SweepRunner] Running %d configurations on file=%s (parallelism=%d)%n",
+                grid.size(), file, parallelism);
+
+        List<ForkJoinTask<String>> tasks = new ArrayList<>(grid.size());
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long startNanos = System.nanoTime();
+        int rows = 0;
+        int failed = 0;
+        try {
+            for (Config config : grid) {
+                Simulator.EngineMode mode = engineMode;
+                tasks.add(pool.submit(() -> runConfig(config, workload, mode)));
+            }
+
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(Path.of(out)))) {
+                writer.println(CSV_HEADER);
+                // Se espera cada tarea en el orden de la grilla para que el CSV sea determinista
+                for (int i = 0; i < tasks.size(); i++) {
+                    try {
+                        writer.println(tasks.get(i).get());
+                        rows++;
+                    } catch (ExecutionException e) {
+                        failed++;
+                        System.err.println("[SweepRunner] Configuration failed: " + grid.get(i) + " - " + e.getCause());
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        System.out.printf("[SweepRunner] Wrote %d rows to %s in %d ms%n", rows, out, elapsedMs);
+        if (failed > 0) {
+            System.out.printf("[SweepRunner] %d of %d configurations failed%n", failed, grid.size());
+            System.exit(1);
+        }
+    }
+
+    private static void printUsageAndExit() {
+        System.out.println("Usage: java simulador.core.SweepRunner <process_file> [--schedulers FCFS,SJF,SRTF,RR] [--quanta 2,3,4]"
+                + " [--cs 0,1] [--frames 256] [--replacement FIFO,LRU,OPTIMAL] [--cores N] [--engine tick|des]"
+                + " [--parallelism N] [--out sweep.csv]");
+        System.out.println("Each option takes a comma-separated list; quanta only apply to RR.");
+        System.out.println("Example: java simulador.core.SweepRunner procesos_io.txt --schedulers FCFS,RR --quanta 2,4 --cs 0,1,2 --out sweep.csv");
+        System.exit(1);
+    }
+
+    private static Simulator.EngineMode parseEngineMode(String value) {
+        switch (value.toUpperCase(Locale.ROOT)) {
+            case "TICK":
+                return Simulator.EngineMode.TICK;
+            case "DES":
+                return Simulator.EngineMode.DISCRETE_EVENT;
+            default:
+                System.out.println("[SweepRunner] Unknown engine: " + value);
+                printUsageAndExit();
+                return Simulator.EngineMode.DISCRETE_EVENT;
+        }
+    }
+
+    private static String runConfig(Config config, List<Process> workload, Simulator.EngineMode engineMode) {
+        SimulationClock clock = new VirtualClock();
+        MemoryManager memoryManager = new MemoryManager(config.frames, createReplacement(config.replacement));
+        Simulator sim = new Simulator(createScheduler(config.scheduler, config.quantum), config.cores,
+                memoryManager, config.contextSwitchCost, clock);
+        sim.setEngineMode(engineMode);
+        sim.setGanttLogEnabled(false);
+        for (Process process : workload) {
+            sim.addProcess(process.copy());
+        }
+        sim.run();
+
+        MetricsCollector metrics = sim.getMetricsCollector();
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%s,%d,%d,%.2f,%.2f,%.2f,%.2f,%d,%d,%d,%d",
+                config.scheduler,
+                config.quantum > 0 ? String.valueOf(config.quantum) : "",
+                config.contextSwitchCost,
+                config.frames,
+                config.replacement,
+                config.cores,
+                workload.size(),
+                metrics.getAverageWaitingTime(),
+                metrics.getAverageTurnaroundTime(),
+                metrics.getAverageResponseTime(),
+                metrics.getCPUUtilization(),
+                metrics.getTotalContextSwitchTime(),
+                metrics.getTotalPageFaults(),
+                metrics.getTotalPageReplacements(),
+                sim.getCurrentTime());
+    }
+
+    private static Supplier<CPUScheduler> createScheduler(String type, int quantum) {
+        switch (type) {
+            case "RR":
+                return () -> new RoundRobin(quantum);
+            case "SJF":
+                return SJF::new;
+            case "SRTF":
+                return SRTF::new;
+            case "FCFS":
+                return FCFS::new;
+            default:
+                throw new IllegalArgumentException("Unknown scheduler: " + type);
+        }
+    }
+
+    private static PageReplacement createReplacement(String name) {
+        switch (name) {
+            case "LRU":
+                return new LRU();
+            case "OPTIMAL":
+            case "OPT":
+                return new Optimal();
+            case "FIFO":
+                return new FIFO();
+            default:
+                throw new IllegalArgumentException("Unknown replacement algorithm: " + name);
+        }
+    }
+
+    // Los nombres desconocidos se rechazan aquí: de otro modo la fila quedaría con una etiqueta falsa
+    private static List<String> parseNames(String value, List<String> known, String kind) {
+        List<String> names = new ArrayList<>();
+        for (String part : value.split(",")) {
+            String name = part.trim().toUpperCase(Locale.ROOT);
+            if (name.equals("ROUNDROBIN")) {
+                name = "RR";
+            }
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!known.contains(name)) {
+                System.out.println("[SweepRunner] Unknown " + kind + ": " + part.trim()
+                        + " (expected one of " + String.join(", ", known) + ")");
+                printUsageAndExit();
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    private static int parsePositiveInt(String value, String option) {
+        int parsed = 0;
+        try {
+            parsed = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            // se informa abajo igual que un valor fuera de rango
+        }
+        if (parsed < 1) {
+            System.out.println("[SweepRunner] " + option + " must be a positive integer: " + value);
+            printUsageAndExit();
+        }
+        return parsed;
+    }
+
+    private static List<Integer> parseInts(String value) {
+        List<Integer> values = new ArrayList<>();
+        for (String part : value.split(",")) {
+            if (!part.isBlank()) {
+                values.add(Integer.parseInt(part.trim()));
+            }
+        }
+        return values;
+    }
+
+    private static final class Config {
+        final String scheduler;
+        final int quantum;
+        final int contextSwitchCost;
+        final int frames;
+        final String replacement;
+        final int cores;
+
+        Config(String scheduler, int quantum, int contextSwitchCost, int frames, String replacement, int cores) {
+            this.scheduler = scheduler;
+            this.quantum = quantum;
+            this.contextSwitchCost = contextSwitchCost;
+            this.frames = frames;
+            this.replacement = replacement;
+            this.cores = cores;
+        }
+
+        @Override
+        public String toString() {
+            return scheduler + (quantum > 0 ? "(q=" + quantum + ")" : "") + " cs=" + contextSwitchCost
+                    + " frames=" + frames + " " + replacement + " cores=" + cores;
+        }
+    }
+}
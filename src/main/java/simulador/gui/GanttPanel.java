@@ -12,7 +12,7 @@ import java.util.List;
  */
 public class GanttPanel extends JPanel {
     
-    private final List<GanttEntry> cpuData;
+    private final List<List<GanttEntry>> cpuTracks; // una pista por núcleo
     private final List<GanttEntry> ioData;
     private int maxTime;
     private int pixelsPerUnit = 30;
@@ -37,7 +37,8 @@ public class GanttPanel extends JPanel {
     };
 
     public GanttPanel() {
-        cpuData = new ArrayList<>();
+        cpuTracks = new ArrayList<>();
+        cpuTracks.add(new ArrayList<>());
         ioData = new ArrayList<>();
         processColors = new HashMap<>();
         maxTime = 0;
@@ -61,7 +62,22 @@ public class GanttPanel extends JPanel {
     }
 
     public void addCpuEntry(String pid, int startTime, int endTime) {
-        addSegment(cpuData, pid, startTime, endTime, false);
+        addCpuEntry(0, pid, startTime, endTime);
+    }
+
+    public void addCpuEntry(int core, String pid, int startTime, int endTime) {
+        addSegment(cpuTracks.get(core), pid, startTime, endTime, false);
+    }
+
+    /**
+     * Define cuántas pistas de CPU se dibujan (una por núcleo) y limpia el diagrama
+     */
+    public void setCoreCount(int cores) {
+        cpuTracks.clear();
+        for (int core = 0; core < Math.max(1, cores); core++) {
+            cpuTracks.add(new ArrayList<>());
+        }
+        clear();
     }
 
     private void addSegment(List<GanttEntry> target, String pid, int startTime, int endTime, boolean contextSwitch) {
@@ -83,7 +99,11 @@ public class GanttPanel extends JPanel {
     }
 
     public void addContextSwitch(int startTime, int endTime) {
-        addSegment(cpuData, "CS", startTime, endTime, true);
+        addContextSwitch(0, startTime, endTime);
+    }
+
+    public void addContextSwitch(int core, int startTime, int endTime) {
+        addSegment(cpuTracks.get(core), "CS", startTime, endTime, true);
     }
 
     public void addIoEntry(String pid, int startTime, int endTime) {
@@ -94,7 +114,9 @@ public class GanttPanel extends JPanel {
      * Limpia el diagrama
      */
     public void clear() {
-        cpuData.clear();
+        for (List<GanttEntry> track : cpuTracks) {
+            track.clear();
+        }
         ioData.clear();
         processColors.clear();
         maxTime = 0;
@@ -109,7 +131,7 @@ public class GanttPanel extends JPanel {
         Graphics2D g2d = (Graphics2D) g;
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        if (cpuData.isEmpty() && ioData.isEmpty()) {
+        if (!hasCpuData() && ioData.isEmpty()) {
             // Mostrar mensaje cuando no hay datos
             g2d.setColor(Color.GRAY);
             g2d.setFont(new Font("Arial", Font.PLAIN, 14));
@@ -133,10 +155,7 @@ public class GanttPanel extends JPanel {
     }
 
     private void drawTimeAxis(Graphics2D g2d) {
-        int y = TOP_MARGIN + PROCESS_HEIGHT;
-        if (!ioData.isEmpty()) {
-            y += PROCESS_HEIGHT + 40;
-        }
+        int y = TOP_MARGIN + PROCESS_HEIGHT + (trackCount() - 1) * (PROCESS_HEIGHT + 40);
         y += 10;
         int endX = LEFT_MARGIN + maxTime * pixelsPerUnit;
         
@@ -212,23 +231,23 @@ public class GanttPanel extends JPanel {
     }
 
     private void drawGanttBars(Graphics2D g2d) {
-        int cpuY = TOP_MARGIN;
-        drawTrack(g2d, cpuData, cpuY, "CPU", true);
+        for (int core = 0; core < cpuTracks.size(); core++) {
+            int cpuY = TOP_MARGIN + core * (PROCESS_HEIGHT + 40);
+            String label = cpuTracks.size() > 1 ? "CPU " + core : "CPU";
+            drawTrack(g2d, cpuTracks.get(core), cpuY, label, true);
+        }
     }
 
     private void drawIoBars(Graphics2D g2d) {
         if (ioData.isEmpty()) {
             return;
         }
-        int ioY = TOP_MARGIN + PROCESS_HEIGHT + 40;
+        int ioY = TOP_MARGIN + cpuTracks.size() * (PROCESS_HEIGHT + 40);
         drawTrack(g2d, ioData, ioY, "E/S", false);
     }
 
     private void drawLegend(Graphics2D g2d) {
-        int legendY = TOP_MARGIN + PROCESS_HEIGHT + 70;
-        if (!ioData.isEmpty()) {
-            legendY += PROCESS_HEIGHT + 40;
-        }
+        int legendY = TOP_MARGIN + PROCESS_HEIGHT + 70 + (trackCount() - 1) * (PROCESS_HEIGHT + 40);
         int legendX = LEFT_MARGIN;
         
         g2d.setFont(new Font("Arial", Font.BOLD, 11));
@@ -263,7 +282,7 @@ public class GanttPanel extends JPanel {
             }
         }
 
-        boolean hasContextSwitch = cpuData.stream().anyMatch(e -> e.contextSwitch);
+        boolean hasContextSwitch = cpuTracks.stream().flatMap(List::stream).anyMatch(e -> e.contextSwitch);
         if (hasContextSwitch) {
             g2d.setColor(CONTEXT_SWITCH_COLOR);
             g2d.fillRect(x + spacing, legendY - 10, 15, 15);
@@ -286,7 +305,7 @@ public class GanttPanel extends JPanel {
      * Obtiene información de la última ejecución
      */
     public String getExecutionSummary() {
-        if (cpuData.isEmpty() && ioData.isEmpty()) {
+        if (!hasCpuData() && ioData.isEmpty()) {
             return "Sin datos de ejecución";
         }
         
@@ -294,15 +313,21 @@ public class GanttPanel extends JPanel {
         sb.append("=== RESUMEN DE EJECUCIÓN ===\n");
         sb.append(String.format("Tiempo total: %d unidades\n", maxTime));
         sb.append(String.format("Procesos ejecutados: %d\n", processColors.size()));
-        int contextSwitches = (int) cpuData.stream().filter(entry -> entry.contextSwitch).count();
+        int contextSwitches = (int) cpuTracks.stream().flatMap(List::stream).filter(entry -> entry.contextSwitch).count();
         sb.append(String.format("Cambios de contexto: %d\n", contextSwitches));
-        sb.append("\nSecuencia de ejecución:\n");
-        
-        for (GanttEntry entry : cpuData) {
-            String label = entry.contextSwitch ? "[CS]" : entry.pid;
-            sb.append(String.format("  %s: [%d-%d] (%d unidades)\n",
-                label, entry.startTime, entry.endTime,
-                entry.endTime - entry.startTime));
+
+        for (int core = 0; core < cpuTracks.size(); core++) {
+            if (cpuTracks.size() > 1) {
+                sb.append(String.format("\nSecuencia de ejecución (CPU %d):\n", core));
+            } else {
+                sb.append("\nSecuencia de ejecución:\n");
+            }
+            for (GanttEntry entry : cpuTracks.get(core)) {
+                String label = entry.contextSwitch ? "[CS]" : entry.pid;
+                sb.append(String.format("  %s: [%d-%d] (%d unidades)\n",
+                    label, entry.startTime, entry.endTime,
+                    entry.endTime - entry.startTime));
+            }
         }
 
         if (!ioData.isEmpty()) {
@@ -317,8 +342,22 @@ public class GanttPanel extends JPanel {
         return sb.toString();
     }
 
+    private boolean hasCpuData() {
+        for (List<GanttEntry> track : cpuTracks) {
+            if (!track.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Pistas visibles: una por núcleo más la de E/S si tiene datos
+    private int trackCount() {
+        return cpuTracks.size() + (ioData.isEmpty() ? 0 : 1);
+    }
+
     private void updatePreferredSize() {
-        int tracks = ioData.isEmpty() ? 1 : 2;
+        int tracks = trackCount();
         int baseHeight = TOP_MARGIN + tracks * (PROCESS_HEIGHT + 40) + BOTTOM_MARGIN + 80;
         int width = Math.max(MIN_WIDTH, LEFT_MARGIN + maxTime * pixelsPerUnit + 200);
         setPreferredSize(new Dimension(width, baseHeight));
@@ -1,5 +1,9 @@
 package simulador.gui;
 
+import simulador.clock.RealTimeClock;
+import simulador.clock.ScaledClock;
+import simulador.clock.SimulationClock;
+import simulador.core.AsyncSimulationListener;
 import simulador.core.Simulator;
 import simulador.memory.*;
 import simulador.metrics.MetricsCollector;
@@ -12,8 +16,11 @@ import javax.swing.border.TitledBorder;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.io.File;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 public class MainWindow extends JFrame implements Simulator.SimulationListener {
 
@@ -35,6 +42,8 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
     private JSpinner framesSpinner;
     private JSpinner quantumSpinner;
     private JSpinner contextSwitchSpinner;
+    private JComboBox<String> speedCombo;
+    private JSpinner coresSpinner;
     private JTextField filePathField;
     
     private JButton loadButton;
@@ -42,11 +51,20 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
     private JButton stopButton;
     private JButton resetButton;
     
-    // Variables para tracking del Gantt
-    private String lastRunningProcess = null;
-    private int lastExecutionTime = 0;
+    // Variables para tracking del Gantt (una entrada por núcleo)
+    private String[] lastRunningProcess = new String[1];
+    private int[] lastExecutionTime = new int[1];
     private final Map<String, Integer> ioActiveBursts = new HashMap<>();
 
+    // Refresco agrupado de tablas: a lo sumo MAX_REFRESHES_PER_SECOND repintados por segundo
+    private static final int MAX_REFRESHES_PER_SECOND = 20;
+    private final RefreshScheduler refreshScheduler = new RefreshScheduler(MAX_REFRESHES_PER_SECOND, this::applyRefresh);
+    private final Map<String, Integer> processRows = new HashMap<>(); // PID -> fila de la tabla
+    private long memoryVersion = -1;
+    private boolean[] frameOccupiedView = new boolean[0];
+    private String[] framePidView = new String[0];
+    private int[] framePageView = new int[0];
+
     public MainWindow() {
         setTitle("Simulador de Sistema Operativo - Planificación y Memoria Virtual");
         setSize(1200, 800);
@@ -61,11 +79,13 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
 
     private void initComponents() {
         // Panel de configuración
-        schedulerCombo = new JComboBox<>(new String[]{"FCFS", "SJF", "Round Robin"});
+        schedulerCombo = new JComboBox<>(new String[]{"FCFS", "SJF", "SRTF", "Round Robin"});
         memoryAlgoCombo = new JComboBox<>(new String[]{"FIFO", "LRU", "Optimal"});
         framesSpinner = new JSpinner(new SpinnerNumberModel(10, 1, 50, 1));
         quantumSpinner = new JSpinner(new SpinnerNumberModel(3, 1, 10, 1));
         contextSwitchSpinner = new JSpinner(new SpinnerNumberModel(0, 0, 10, 1));
+        speedCombo = new JComboBox<>(new String[]{"Normal (100 ms)", "Rápida (10 ms)", "Muy rápida (1 ms)"});
+        coresSpinner = new JSpinner(new SpinnerNumberModel(1, 1, 64, 1));
         filePathField = new JTextField("procesos.txt");
         
         // Botones
@@ -206,16 +226,24 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
         gbc.gridx = 3;
         panel.add(framesSpinner, gbc);
         
-        // Fila 4 - Costo de cambio de contexto
+        // Fila 4 - Costo de cambio de contexto y velocidad del reloj
         gbc.gridx = 0; gbc.gridy = 3;
-        panel.add(new JLabel("Costo cambio de contexto:"), gbc);
+        panel.add(new JLabel("Costo cambio de contexto (unidades):"), gbc);
         gbc.gridx = 1;
         panel.add(contextSwitchSpinner, gbc);
         gbc.gridx = 2;
-        panel.add(new JLabel("(unidades)"), gbc);
+        panel.add(new JLabel("Velocidad:"), gbc);
+        gbc.gridx = 3;
+        panel.add(speedCombo, gbc);
 
-        // Fila 4 - Botones de control
-        gbc.gridx = 0; gbc.gridy = 4; gbc.gridwidth = 4;
+        // Fila 5 - Núcleos de CPU
+        gbc.gridx = 0; gbc.gridy = 4;
+        panel.add(new JLabel("Núcleos de CPU:"), gbc);
+        gbc.gridx = 1;
+        panel.add(coresSpinner, gbc);
+
+        // Fila 6 - Botones de control
+        gbc.gridx = 0; gbc.gridy = 5; gbc.gridwidth = 4;
         gbc.anchor = GridBagConstraints.CENTER;
         JPanel buttonPanel = new JPanel(new FlowLayout());
         buttonPanel.add(startButton);
@@ -240,8 +268,9 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
         try {
             String filePath = filePathField.getText();
             
-            // Crear scheduler
+            // Crear scheduler (una instancia por núcleo)
             CPUScheduler scheduler = createScheduler();
+            int cores = (Integer) coresSpinner.getValue();
             
             // Crear algoritmo de reemplazo de páginas
             PageReplacement pageAlgo = createPageReplacementAlgorithm();
@@ -250,18 +279,20 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
             int frames = (Integer) framesSpinner.getValue();
             MemoryManager memoryManager = new MemoryManager(frames, pageAlgo);
             int contextSwitchCost = (Integer) contextSwitchSpinner.getValue();
+            SimulationClock clock = createClock();
             
             // Crear simulador
-            simulator = new Simulator(scheduler, memoryManager, contextSwitchCost);
-            simulator.addListener(this);
+            simulator = new Simulator(this::createScheduler, cores, memoryManager, contextSwitchCost, clock);
+            // La GUI consume los eventos en su propio hilo; los avances de tiempo se fusionan
+            simulator.addListener(this, AsyncSimulationListener.Backpressure.COALESCE);
             
             // Cargar procesos
             simulator.loadProcessesFromFile(filePath);
 
-            ganttPanel.clear();
+            ganttPanel.setCoreCount(cores);
             ioActiveBursts.clear();
-            lastRunningProcess = null;
-            lastExecutionTime = 0;
+            lastRunningProcess = new String[cores];
+            lastExecutionTime = new int[cores];
             metricsArea.setText("");
             progressBar.setValue(0);
             timeLabel.setText("Tiempo: 0");
@@ -269,7 +300,9 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
             log("Procesos cargados exitosamente desde: " + filePath);
             log("Configuración: " + scheduler.getName() + " + " + pageAlgo.getName());
             log("Marcos de memoria: " + frames);
+            log("Núcleos de CPU: " + cores);
             log("Costo de cambio de contexto: " + contextSwitchCost + " unidades");
+            log("Reloj: " + clock.getName());
             
             startButton.setEnabled(true);
             loadButton.setEnabled(false);
@@ -290,6 +323,8 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
         switch (selected) {
             case "SJF":
                 return new SJF();
+            case "SRTF":
+                return new SRTF();
             case "Round Robin":
                 int quantum = (Integer) quantumSpinner.getValue();
                 return new RoundRobin(quantum);
@@ -312,8 +347,22 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
         }
     }
 
+    private SimulationClock createClock() {
+        String selected = (String) speedCombo.getSelectedItem();
+        switch (selected) {
+            case "Rápida (10 ms)":
+                return new ScaledClock(10);
+            case "Muy rápida (1 ms)":
+                return new ScaledClock(1);
+            case "Normal (100 ms)":
+            default:
+                return new RealTimeClock();
+        }
+    }
+
     private void startSimulation() {
         if (simulator != null) {
+            refreshScheduler.start();
             simulator.start();
             startButton.setEnabled(false);
             stopButton.setEnabled(true);
@@ -335,8 +384,12 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
 
     private void resetSimulation() {
         simulator = null;
+        refreshScheduler.stop();
+        refreshScheduler.clear();
         processTableModel.setRowCount(0);
+        processRows.clear();
         memoryTableModel.setRowCount(0);
+        memoryVersion = -1;
         logArea.setText("");
         metricsArea.setText("");
         ganttPanel.clear();  // ¡Limpiar el Gantt!
@@ -345,8 +398,8 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
         statusLabel.setText("Listo para cargar procesos");
         
         // Resetear tracking del Gantt
-        lastRunningProcess = null;
-        lastExecutionTime = 0;
+        Arrays.fill(lastRunningProcess, null);
+        Arrays.fill(lastExecutionTime, 0);
         ioActiveBursts.clear();
         
         loadButton.setEnabled(true);
@@ -357,10 +410,39 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
         log("Sistema reiniciado");
     }
 
+    /**
+     * Aplica en el EDT los cambios acumulados por el RefreshScheduler, tocando solo las filas modificadas
+     */
+    private void applyRefresh(int time, List<String> dirtyPids, boolean allProcesses, boolean memory) {
+        if (time >= 0) {
+            timeLabel.setText("Tiempo: " + time);
+        }
+        if (allProcesses || processRows.isEmpty()) {
+            updateProcessTable();
+        } else if (simulator != null) {
+            for (String pid : dirtyPids) {
+                Integer row = processRows.get(pid);
+                Process p = simulator.getProcessTable().get(pid);
+                if (row == null || p == null) {
+                    updateProcessTable();
+                    break;
+                }
+                if (processTableModel.getValueAt(row, 2) != p.getState()) {
+                    processTableModel.setValueAt(p.getState(), row, 2);
+                }
+            }
+        }
+        if (memory) {
+            refreshMemoryRows();
+        }
+    }
+
     private void updateProcessTable() {
         processTableModel.setRowCount(0);
+        processRows.clear();
         if (simulator != null) {
             for (Process p : simulator.getProcesses()) {
+                processRows.put(p.getPid(), processTableModel.getRowCount());
                 processTableModel.addRow(new Object[]{
                         p.getPid(),
                         p.getArrivalTime(),
@@ -372,21 +454,54 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
         }
     }
 
-    private void updateMemoryTable() {
-        memoryTableModel.setRowCount(0);
-        if (simulator != null && simulator.getMemoryManager() != null) {
-            boolean[] frames = simulator.getMemoryManager().getFrameOccupied();
-            Map<Integer, MemoryManager.FrameAllocation> allocations = simulator.getMemoryManager().getFrameAllocations();
-            for (int i = 0; i < frames.length; i++) {
-                MemoryManager.FrameAllocation allocation = allocations.get(i);
-                memoryTableModel.addRow(new Object[]{
-                        i,
-                        frames[i] ? "Sí" : "No",
-                        allocation != null ? allocation.getPid() : (frames[i] ? "?" : "-"),
-                        allocation != null ? allocation.getPageNumber() : (frames[i] ? "?" : "-")
-                });
+    /**
+     * Compara el estado de los marcos con la última vista y actualiza solo las celdas que cambiaron
+     */
+    private void refreshMemoryRows() {
+        if (simulator == null || simulator.getMemoryManager() == null) {
+            return;
+        }
+        MemoryManager memoryManager = simulator.getMemoryManager();
+        long version = memoryManager.getModificationCount();
+        int frames = memoryManager.getTotalFrames();
+        if (version == memoryVersion && memoryTableModel.getRowCount() == frames) {
+            return;
+        }
+        boolean[] occupied = new boolean[frames];
+        String[] pids = new String[frames];
+        int[] pages = new int[frames];
+        memoryManager.copyFrameState(occupied, pids, pages);
+
+        if (memoryTableModel.getRowCount() != frames || frameOccupiedView.length != frames) {
+            memoryTableModel.setRowCount(0);
+            for (int i = 0; i < frames; i++) {
+                memoryTableModel.addRow(memoryRow(i, occupied[i], pids[i], pages[i]));
+            }
+        } else {
+            for (int i = 0; i < frames; i++) {
+                if (occupied[i] == frameOccupiedView[i] && Objects.equals(pids[i], framePidView[i])
+                        && pages[i] == framePageView[i]) {
+                    continue;
+                }
+                Object[] row = memoryRow(i, occupied[i], pids[i], pages[i]);
+                for (int col = 1; col < row.length; col++) {
+                    memoryTableModel.setValueAt(row[col], i, col);
+                }
             }
         }
+        frameOccupiedView = occupied;
+        framePidView = pids;
+        framePageView = pages;
+        memoryVersion = version;
+    }
+
+    private static Object[] memoryRow(int frame, boolean occupied, String pid, int page) {
+        return new Object[]{
+                frame,
+                occupied ? "Sí" : "No",
+                pid != null ? pid : (occupied ? "?" : "-"),
+                pid != null ? (Object) page : (occupied ? "?" : "-")
+        };
     }
 
     private void log(String message) {
@@ -410,11 +525,15 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
         progressBar.setIndeterminate(false);
         progressBar.setValue(100);
         
-        // Cerrar última entrada del Gantt si quedó abierta
-        if (lastRunningProcess != null && simulator != null) {
+        // Cerrar últimas entradas del Gantt si quedaron abiertas
+        if (simulator != null) {
             int currentTime = simulator.getCurrentTime();
-            ganttPanel.addEntry(lastRunningProcess, lastExecutionTime, currentTime);
-            lastRunningProcess = null;
+            for (int core = 0; core < lastRunningProcess.length; core++) {
+                if (lastRunningProcess[core] != null) {
+                    ganttPanel.addCpuEntry(core, lastRunningProcess[core], lastExecutionTime[core], currentTime);
+                    lastRunningProcess[core] = null;
+                }
+            }
         }
 
         if (!ioActiveBursts.isEmpty() && simulator != null) {
@@ -433,8 +552,11 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
         log("\n" + ganttPanel.getExecutionSummary());  // ¡Agregar resumen del Gantt!
         
         SwingUtilities.invokeLater(() -> {
-            updateProcessTable();
-            updateMemoryTable();
+            refreshScheduler.stop();
+            refreshScheduler.markAllProcesses();
+            refreshScheduler.markMemory();
+            refreshScheduler.markTime(simulator != null ? simulator.getCurrentTime() : -1);
+            refreshScheduler.flush();
         });
 
         stopButton.setEnabled(false);
@@ -449,41 +571,45 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
     @Override
     public void onProcessArrived(Process process) {
         log("Proceso " + process.getPid() + " llegó al sistema");
-        SwingUtilities.invokeLater(this::updateProcessTable);
+        refreshScheduler.markProcess(process.getPid());
     }
 
     @Override
     public void onProcessStarted(Process process) {
         log("Proceso " + process.getPid() + " iniciado");
-        SwingUtilities.invokeLater(this::updateProcessTable);
+        refreshScheduler.markProcess(process.getPid());
     }
 
     @Override
-    public void onProcessExecStart(Process process, int time) {
+    public void onProcessExecStart(Process process, int time, int core) {
+        refreshScheduler.markProcess(process.getPid());
+        refreshScheduler.markMemory();
         // Start a new Gantt entry for this process at simulator time `time`
         SwingUtilities.invokeLater(() -> {
             // Close previous if somehow left open
-            if (lastRunningProcess != null && !lastRunningProcess.equals(process.getPid())) {
-                ganttPanel.addEntry(lastRunningProcess, lastExecutionTime, time);
+            if (lastRunningProcess[core] != null && !lastRunningProcess[core].equals(process.getPid())) {
+                ganttPanel.addCpuEntry(core, lastRunningProcess[core], lastExecutionTime[core], time);
             }
-            lastRunningProcess = process.getPid();
-            lastExecutionTime = time;
+            lastRunningProcess[core] = process.getPid();
+            lastExecutionTime[core] = time;
         });
     }
 
     @Override
-    public void onProcessExecEnd(Process process, int time) {
+    public void onProcessExecEnd(Process process, int time, int core) {
+        refreshScheduler.markProcess(process.getPid());
+        refreshScheduler.markMemory();
         SwingUtilities.invokeLater(() -> {
-            if (lastRunningProcess != null && lastRunningProcess.equals(process.getPid())) {
-                ganttPanel.addEntry(lastRunningProcess, lastExecutionTime, time);
-                lastRunningProcess = null;
+            if (lastRunningProcess[core] != null && lastRunningProcess[core].equals(process.getPid())) {
+                ganttPanel.addCpuEntry(core, lastRunningProcess[core], lastExecutionTime[core], time);
+                lastRunningProcess[core] = null;
             }
         });
     }
 
     @Override
-    public void onContextSwitch(int startTime, int endTime) {
-        SwingUtilities.invokeLater(() -> ganttPanel.addContextSwitch(startTime, endTime));
+    public void onContextSwitch(int startTime, int endTime, int core) {
+        SwingUtilities.invokeLater(() -> ganttPanel.addContextSwitch(core, startTime, endTime));
     }
 
     @Override
@@ -494,10 +620,8 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
     @Override
     public void onIOStarted(Process process, int startTime, int duration) {
         log("Proceso " + process.getPid() + " inició E/S (" + duration + " unidades)");
-        SwingUtilities.invokeLater(() -> {
-            ioActiveBursts.put(process.getPid(), startTime);
-            updateProcessTable();
-        });
+        refreshScheduler.markProcess(process.getPid());
+        SwingUtilities.invokeLater(() -> ioActiveBursts.put(process.getPid(), startTime));
     }
 
     @Override
@@ -507,19 +631,15 @@ public class MainWindow extends JFrame implements Simulator.SimulationListener {
             if (start != null) {
                 ganttPanel.addIoEntry(process.getPid(), start, time);
             }
-            updateProcessTable();
-            updateMemoryTable();
         });
+        refreshScheduler.markProcess(process.getPid());
+        refreshScheduler.markMemory();
     }
 
     @Override
     public void onTimeAdvanced(int time) {
-        SwingUtilities.invokeLater(() -> {
-            timeLabel.setText("Tiempo: " + time);
-            updateProcessTable();
-            updateMemoryTable();
-            // Gantt updated via explicit exec start/end notifications
-        });
+        // Solo se registra el último tiempo; el RefreshScheduler repinta a ritmo limitado
+        refreshScheduler.markTime(time);
     }
     
     /**
@@ -0,0 +1,100 @@
+package simulador.gui;
+
+import javax.swing.Timer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Agrupa los cambios pendientes de la simulación y refresca la interfaz a lo sumo N veces por segundo.
+ * Los hilos de la simulación solo marcan qué cambió (tiempo, procesos, memoria); el Timer de Swing
+ * entrega los cambios acumulados en el EDT y no hace nada si no hubo cambios.
+ */
+class RefreshScheduler {
+
+    /**
+     * Recibe en el EDT los cambios acumulados desde el último refresco
+     */
+    interface Target {
+        /**
+         * @param time último tiempo publicado, o -1 si no avanzó
+         * @param dirtyPids procesos que cambiaron de estado
+         * @param allProcesses true si hay que reconstruir toda la tabla de procesos
+         * @param memory true si la memoria pudo haber cambiado
+         */
+        void refresh(int time, List<String> dirtyPids, boolean allProcesses, boolean memory);
+    }
+
+    private final Target target;
+    private final Timer timer;
+    private final AtomicInteger latestTime = new AtomicInteger(-1);
+    private final Set<String> dirtyProcesses = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean allProcessesDirty = new AtomicBoolean();
+    private final AtomicBoolean memoryDirty = new AtomicBoolean();
+    private final List<String> drained = new ArrayList<>(); // solo se usa en el EDT
+
+    RefreshScheduler(int maxRefreshesPerSecond, Target target) {
+        if (maxRefreshesPerSecond < 1) {
+            throw new IllegalArgumentException("maxRefreshesPerSecond must be >= 1");
+        }
+        this.target = target;
+        this.timer = new Timer(1000 / maxRefreshesPerSecond, e -> flush());
+        this.timer.setCoalesce(true);
+    }
+
+    void markTime(int time) {
+        latestTime.set(time);
+    }
+
+    void markProcess(String pid) {
+        dirtyProcesses.add(pid);
+    }
+
+    void markAllProcesses() {
+        allProcessesDirty.set(true);
+    }
+
+    void markMemory() {
+        memoryDirty.set(true);
+    }
+
+    void start() {
+        timer.start();
+    }
+
+    void stop() {
+        timer.stop();
+    }
+
+    /**
+     * Descarta los cambios pendientes (por ejemplo, al reiniciar)
+     */
+    void clear() {
+        latestTime.set(-1);
+        dirtyProcesses.clear();
+        allProcessesDirty.set(false);
+        memoryDirty.set(false);
+    }
+
+    /**
+     * Aplica de inmediato los cambios pendientes; debe llamarse en el EDT
+     */
+    void flush() {
+        int time = latestTime.getAndSet(-1);
+        boolean all = allProcessesDirty.getAndSet(false);
+        boolean memory = memoryDirty.getAndSet(false);
+        drained.clear();
+        for (Iterator<String> it = dirtyProcesses.iterator(); it.hasNext(); ) {
+            drained.add(it.next());
+            it.remove();
+        }
+        if (time < 0 && !all && !memory && drained.isEmpty()) {
+            return;
+        }
+        target.refresh(time, drained, all, memory);
+    }
+}
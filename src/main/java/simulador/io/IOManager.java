@@ -1,5 +1,9 @@
 package simulador.io;
 
+import simulador.clock.RealTimeClock;
+import simulador.clock.SimulationClock;
+import simulador.jfr.IOCompleteEvent;
+import simulador.jfr.IOStartEvent;
 import simulador.process.Process;
 import java.util.concurrent.*;
 import java.util.*;
@@ -9,18 +13,29 @@ import java.util.*;
  */
 public class IOManager {
     
+    private final SimulationClock clock;
     private final ExecutorService ioExecutor;
     private final Map<String, IOOperation> activeOperations;
     private final BlockingQueue<IOCompletion> completionQueue;
+    private final PriorityQueue<ScheduledCompletion> scheduledCompletions;
+    private long scheduleSequence;
 
     public IOManager() {
+        this(new RealTimeClock());
+    }
+
+    public IOManager(SimulationClock clock) {
+        this.clock = clock;
         this.ioExecutor = Executors.newCachedThreadPool();
         this.activeOperations = new ConcurrentHashMap<>();
         this.completionQueue = new LinkedBlockingQueue<>();
+        this.scheduledCompletions = new PriorityQueue<>();
+        this.scheduleSequence = 0;
     }
 
     /**
-     * Inicia una operación de E/S para un proceso
+     * Inicia una operación de E/S para un proceso; la duración está en unidades lógicas
+     * y se espera en un hilo aparte según el reloj de la simulación
      */
     public void startIOOperation(Process process, int duration) {
         IOOperation operation = new IOOperation(process, duration);
@@ -29,7 +44,7 @@ public class IOManager {
         ioExecutor.submit(() -> {
             try {
                 // Simula el tiempo de E/S
-                Thread.sleep(duration);
+                clock.sleepUnits(duration);
                 
                 // Notifica la finalización
                 completionQueue.put(new IOCompletion(process.getPid()));
@@ -41,6 +56,16 @@ public class IOManager {
         });
     }
 
+    /**
+     * Programa una operación de E/S sobre el reloj lógico: termina en startTime + duration
+     * unidades, sin depender del tiempo real transcurrido.
+     */
+    public synchronized void scheduleIOOperation(Process process, int startTime, int duration) {
+        activeOperations.put(process.getPid(), new IOOperation(process, duration));
+        scheduledCompletions.add(new ScheduledCompletion(process.getPid(), startTime + duration, scheduleSequence++));
+        IOStartEvent.emit(process.getPid(), startTime, duration);
+    }
+
     /**
      * Verifica si hay operaciones de E/S completadas
      */
@@ -48,6 +73,28 @@ public class IOManager {
         return completionQueue.poll();
     }
 
+    /**
+     * Retorna la siguiente operación programada que ya terminó en el tiempo lógico indicado
+     */
+    public synchronized IOCompletion pollCompletion(int currentTime) {
+        ScheduledCompletion next = scheduledCompletions.peek();
+        if (next == null || next.completionTime > currentTime) {
+            return null;
+        }
+        scheduledCompletions.poll();
+        activeOperations.remove(next.pid);
+        IOCompleteEvent.emit(next.pid, currentTime, next.completionTime);
+        return new IOCompletion(next.pid);
+    }
+
+    /**
+     * Tiempo lógico de la próxima finalización programada (Integer.MAX_VALUE si no hay)
+     */
+    public synchronized int nextCompletionTime() {
+        ScheduledCompletion next = scheduledCompletions.peek();
+        return next != null ? next.completionTime : Integer.MAX_VALUE;
+    }
+
     /**
      * Espera por una operación de E/S completada (bloqueante)
      */
@@ -62,6 +109,13 @@ public class IOManager {
         return activeOperations.containsKey(pid);
     }
 
+    /**
+     * Cantidad de operaciones de E/S en curso
+     */
+    public int getActiveOperationCount() {
+        return activeOperations.size();
+    }
+
     /**
      * Cancela una operación de E/S
      */
@@ -97,6 +151,27 @@ public class IOManager {
         }
     }
 
+    // Finalización programada en tiempo lógico; el orden de llegada desempata
+    private static class ScheduledCompletion implements Comparable<ScheduledCompletion> {
+        final String pid;
+        final int completionTime;
+        final long sequence;
+
+        ScheduledCompletion(String pid, int completionTime, long sequence) {
+            this.pid = pid;
+            this.completionTime = completionTime;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(ScheduledCompletion other) {
+            if (completionTime != other.completionTime) {
+                return Integer.compare(completionTime, other.completionTime);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
     // Clase para notificar la finalización de E/S
     public static class IOCompletion {
         private final String pid;
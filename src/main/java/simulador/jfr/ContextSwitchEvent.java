@@ -0,0 +1,36 @@
+package simulador.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("simulador.ContextSwitch")
+@Label("Context Switch")
+@Category({"Simulador", "Planificación"})
+@StackTrace(false)
+public final class ContextSwitchEvent extends Event {
+
+    @Label("Core")
+    int core;
+
+    @Label("Start Tick")
+    int startTick;
+
+    @Label("End Tick")
+    int endTick;
+
+    public static void emit(int core, int startTick, int endTick) {
+        if (!FlightRecording.isActive()) {
+            return;
+        }
+        ContextSwitchEvent event = new ContextSwitchEvent();
+        if (event.shouldCommit()) {
+            event.core = core;
+            event.startTick = startTick;
+            event.endTick = endTick;
+            event.commit();
+        }
+    }
+}
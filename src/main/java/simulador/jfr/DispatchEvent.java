@@ -0,0 +1,43 @@
+package simulador.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("simulador.Dispatch")
+@Label("Dispatch")
+@Category({"Simulador", "Planificación"})
+@Description("Un núcleo toma un proceso de su cola de listos (o lo roba de otra)")
+@StackTrace(false)
+public final class DispatchEvent extends Event {
+
+    @Label("PID")
+    String pid;
+
+    @Label("Tick")
+    int tick;
+
+    @Label("Core")
+    int core;
+
+    @Label("Queue Depth")
+    @Description("Procesos que quedan en la cola del núcleo después de despachar")
+    int queueDepth;
+
+    public static void emit(String pid, int tick, int core, int queueDepth) {
+        if (!FlightRecording.isActive()) {
+            return;
+        }
+        DispatchEvent event = new DispatchEvent();
+        if (event.shouldCommit()) {
+            event.pid = pid;
+            event.tick = tick;
+            event.core = core;
+            event.queueDepth = queueDepth;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package simulador.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import simulador.process.Process;
+
+/**
+ * Duración en tiempo real de una iteración del ciclo del motor: se abre con start() al inicio de
+ * la iteración (null si no hay grabación) y se cierra con finish() al final.
+ */
+@Name("simulador.EngineTick")
+@Label("Engine Tick")
+@Category({"Simulador", "Motor"})
+@Description("Tiempo real de una iteración del ciclo de simulación (un tick, o un salto en modo por eventos)")
+@StackTrace(false)
+public final class EngineTickEvent extends Event {
+
+    @Label("Tick")
+    @Description("Tiempo lógico al iniciar la iteración")
+    int tick;
+
+    @Label("Units")
+    @Description("Unidades lógicas que avanzó la iteración")
+    int units;
+
+    @Label("Running")
+    @Description("Núcleos con un proceso en ejecución")
+    int running;
+
+    public static EngineTickEvent start() {
+        if (!FlightRecording.isActive()) {
+            return null;
+        }
+        EngineTickEvent event = new EngineTickEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(int tick, int units, Process[] runningProcesses) {
+        end();
+        if (shouldCommit()) {
+            this.tick = tick;
+            this.units = units;
+            for (Process process : runningProcesses) {
+                if (process != null) {
+                    running++;
+                }
+            }
+            commit();
+        }
+    }
+}
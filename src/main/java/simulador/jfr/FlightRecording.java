@@ -0,0 +1,50 @@
+package simulador.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Indica si hay alguna grabación de JFR en curso. Los eventos del simulador consultan esta bandera
+ * antes de crear el objeto del evento, así sin grabación el costo es una lectura volátil.
+ */
+public final class FlightRecording {
+
+    private static volatile boolean active;
+
+    static {
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recorderInitialized(FlightRecorder recorder) {
+                update();
+            }
+
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                update();
+            }
+        });
+        update();
+    }
+
+    private FlightRecording() {
+    }
+
+    public static boolean isActive() {
+        return active;
+    }
+
+    private static void update() {
+        boolean running = false;
+        if (FlightRecorder.isInitialized()) {
+            for (Recording recording : FlightRecorder.getFlightRecorder().getRecordings()) {
+                if (recording.getState() == RecordingState.RUNNING) {
+                    running = true;
+                    break;
+                }
+            }
+        }
+        active = running;
+    }
+}
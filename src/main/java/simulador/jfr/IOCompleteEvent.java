@@ -0,0 +1,39 @@
+package simulador.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("simulador.IOComplete")
+@Label("I/O Complete")
+@Category({"Simulador", "E/S"})
+@StackTrace(false)
+public final class IOCompleteEvent extends Event {
+
+    @Label("PID")
+    String pid;
+
+    @Label("Tick")
+    @Description("Tiempo lógico en que se atendió la finalización")
+    int tick;
+
+    @Label("Completion Tick")
+    @Description("Tiempo lógico en que la operación estaba programada para terminar")
+    int completionTick;
+
+    public static void emit(String pid, int tick, int completionTick) {
+        if (!FlightRecording.isActive()) {
+            return;
+        }
+        IOCompleteEvent event = new IOCompleteEvent();
+        if (event.shouldCommit()) {
+            event.pid = pid;
+            event.tick = tick;
+            event.completionTick = completionTick;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package simulador.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("simulador.IOStart")
+@Label("I/O Start")
+@Category({"Simulador", "E/S"})
+@StackTrace(false)
+public final class IOStartEvent extends Event {
+
+    @Label("PID")
+    String pid;
+
+    @Label("Tick")
+    int tick;
+
+    @Label("Duration")
+    int duration;
+
+    public static void emit(String pid, int tick, int duration) {
+        if (!FlightRecording.isActive()) {
+            return;
+        }
+        IOStartEvent event = new IOStartEvent();
+        if (event.shouldCommit()) {
+            event.pid = pid;
+            event.tick = tick;
+            event.duration = duration;
+            event.commit();
+        }
+    }
+}
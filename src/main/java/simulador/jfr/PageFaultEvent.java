@@ -0,0 +1,55 @@
+package simulador.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("simulador.PageFault")
+@Label("Page Fault")
+@Category({"Simulador", "Memoria"})
+@Description("Carga de una página ausente; si no había marcos libres indica la página reemplazada")
+@StackTrace(false)
+public final class PageFaultEvent extends Event {
+
+    @Label("PID")
+    String pid;
+
+    @Label("Page")
+    int page;
+
+    @Label("Frame")
+    @Description("Marco asignado, -1 si no se pudo cargar")
+    int frame;
+
+    @Label("Replacement")
+    boolean replacement;
+
+    @Label("Victim PID")
+    String victimPid;
+
+    @Label("Victim Page")
+    int victimPage;
+
+    public static void emit(String pid, int page, int frame) {
+        emit(pid, page, frame, false, null, -1);
+    }
+
+    public static void emit(String pid, int page, int frame, boolean replacement, String victimPid, int victimPage) {
+        if (!FlightRecording.isActive()) {
+            return;
+        }
+        PageFaultEvent event = new PageFaultEvent();
+        if (event.shouldCommit()) {
+            event.pid = pid;
+            event.page = page;
+            event.frame = frame;
+            event.replacement = replacement;
+            event.victimPid = victimPid;
+            event.victimPage = victimPage;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package simulador.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("simulador.Preemption")
+@Label("Preemption")
+@Category({"Simulador", "Planificación"})
+@Description("Se agotó el quantum y el proceso vuelve a la cola de listos")
+@StackTrace(false)
+public final class PreemptionEvent extends Event {
+
+    @Label("PID")
+    String pid;
+
+    @Label("Tick")
+    int tick;
+
+    @Label("Core")
+    int core;
+
+    @Label("Remaining Burst")
+    @Description("Unidades que le quedan a la ráfaga de CPU interrumpida")
+    int remainingBurst;
+
+    public static void emit(String pid, int tick, int core, int remainingBurst) {
+        if (!FlightRecording.isActive()) {
+            return;
+        }
+        PreemptionEvent event = new PreemptionEvent();
+        if (event.shouldCommit()) {
+            event.pid = pid;
+            event.tick = tick;
+            event.core = core;
+            event.remainingBurst = remainingBurst;
+            event.commit();
+        }
+    }
+}
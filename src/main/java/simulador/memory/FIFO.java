@@ -1,22 +1,36 @@
 package simulador.memory;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 public class FIFO implements PageReplacement {
 
-    private Queue<Integer> queue = new LinkedList<>();
+    // Orden de carga; un conjunto para poder quitar en O(1) los marcos liberados
+    private Set<Integer> queue = new LinkedHashSet<>();
 
     @Override
     public int selectVictimFrame() {
-        return queue.poll();
+        Iterator<Integer> it = queue.iterator();
+        if (!it.hasNext()) {
+            return -1;
+        }
+        int victim = it.next();
+        it.remove();
+        return victim;
     }
 
     @Override
     public void useFrame(int frameId) {
+        queue.remove(frameId);
         queue.add(frameId);
     }
 
+    @Override
+    public void releaseFrame(int frameId) {
+        queue.remove(frameId);
+    }
+
     @Override
     public String getName() {
         return "FIFO";
@@ -41,4 +41,9 @@ public class LRU implements PageReplacement {
     public void removeFrame(int frameId) {
         lastUsedTime.remove(frameId);
     }
+
+    @Override
+    public void releaseFrame(int frameId) {
+        removeFrame(frameId);
+    }
 }
@@ -1,5 +1,6 @@
 package simulador.memory;
 
+import simulador.jfr.PageFaultEvent;
 import simulador.process.Process;
 import java.util.*;
 import java.util.concurrent.locks.Lock;
@@ -12,8 +13,10 @@ public class MemoryManager {
     private final Map<String, PageTable> pageTables; // PID -> PageTable
     private final boolean[] frameOccupied; // Estado de cada marco
     private final Map<Integer, PageEntry> frameToPage; // Marco -> Entrada de página
+    private int occupiedFrames; // marcos en true de frameOccupied, para consultar los libres sin recorrerlos
     private int pageFaults;
     private int pageReplacements;
+    private long modificationCount; // aumenta con cada cambio en la asignación de marcos
     private final Lock lock;
 
     public MemoryManager(int totalFrames, PageReplacement replacementAlgorithm) {
@@ -48,21 +51,30 @@ public class MemoryManager {
                     if (frame != -1) {
                         pageTable.loadPage(pageNum, frame);
                         frameOccupied[frame] = true;
+                        occupiedFrames++;
                         frameToPage.put(frame, new PageEntry(process.getPid(), pageNum));
                         replacementAlgorithm.useFrame(frame);
+                        modificationCount++;
                         pagesLoaded++;
+                        PageFaultEvent.emit(process.getPid(), pageNum, frame);
                     } else {
                         // Reemplazo de página necesario
                         frame = replacementAlgorithm.selectVictimFrame();
                         if (frame != -1) {
+                            PageEntry victim = frameToPage.get(frame);
                             evictPage(frame);
                             pageTable.loadPage(pageNum, frame);
                             frameOccupied[frame] = true;
+                            occupiedFrames++;
                             frameToPage.put(frame, new PageEntry(process.getPid(), pageNum));
                             replacementAlgorithm.useFrame(frame);
+                            modificationCount++;
                             pageReplacements++;
                             pagesLoaded++;
+                            PageFaultEvent.emit(process.getPid(), pageNum, frame, true,
+                                    victim != null ? victim.pid : null, victim != null ? victim.pageNumber : -1);
                         } else {
+                            PageFaultEvent.emit(process.getPid(), pageNum, -1);
                             pageFaults++;
                             return false; // No hay espacio disponible
                         }
@@ -94,7 +106,10 @@ public class MemoryManager {
             }
             frameToPage.remove(frame);
         }
-        frameOccupied[frame] = false;
+        if (frameOccupied[frame]) {
+            frameOccupied[frame] = false;
+            occupiedFrames--;
+        }
     }
 
     public synchronized void releaseProcessPages(String pid) {
@@ -105,8 +120,13 @@ public class MemoryManager {
                 for (int i = 0; i < pageTable.getTotalPages(); i++) {
                     if (pageTable.isPageLoaded(i)) {
                         int frame = pageTable.getFrame(i);
+                        if (frameOccupied[frame]) {
+                            occupiedFrames--;
+                        }
                         frameOccupied[frame] = false;
                         frameToPage.remove(frame);
+                        replacementAlgorithm.releaseFrame(frame);
+                        modificationCount++;
                     }
                 }
                 pageTables.remove(pid);
@@ -125,11 +145,7 @@ public class MemoryManager {
     }
 
     public synchronized int getFreeFrames() {
-        int count = 0;
-        for (boolean occupied : frameOccupied) {
-            if (!occupied) count++;
-        }
-        return count;
+        return totalFrames - occupiedFrames;
     }
 
     public synchronized Map<String, PageTable> getPageTables() {
@@ -149,6 +165,30 @@ public class MemoryManager {
         return snapshot;
     }
 
+    /**
+     * Contador de cambios en los marcos; si no cambió desde la última consulta, la memoria es la misma
+     */
+    public synchronized long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Copia el estado de cada marco en los arreglos dados (de largo getTotalFrames()) sin crear mapas.
+     * Los marcos libres quedan con pid null y página -1.
+     */
+    public synchronized void copyFrameState(boolean[] occupied, String[] pids, int[] pageNumbers) {
+        for (int i = 0; i < totalFrames; i++) {
+            PageEntry entry = frameToPage.get(i);
+            occupied[i] = frameOccupied[i];
+            pids[i] = entry != null ? entry.pid : null;
+            pageNumbers[i] = entry != null ? entry.pageNumber : -1;
+        }
+    }
+
+    public int getTotalFrames() {
+        return totalFrames;
+    }
+
     public String getAlgorithmName() {
         return replacementAlgorithm.getName();
     }
@@ -63,6 +63,11 @@ public class Optimal implements PageReplacement {
         frames.remove(frameId);
     }
 
+    @Override
+    public void releaseFrame(int frameId) {
+        removeFrame(frameId);
+    }
+
     public void advanceIndex() {
         currentIndex++;
     }
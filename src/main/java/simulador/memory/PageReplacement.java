@@ -4,4 +4,10 @@ public interface PageReplacement {
     int selectVictimFrame();
     void useFrame(int frameId);
     String getName();
+
+    /**
+     * El marco quedó libre (el proceso terminó); el algoritmo deja de considerarlo
+     */
+    default void releaseFrame(int frameId) {
+    }
 }
@@ -0,0 +1,145 @@
+package simulador.metrics;
+
+/**
+ * Histograma de memoria fija con cubetas logarítmicas para tiempos no negativos (ms).
+ * Los valores menores a 128 se guardan exactos; por encima, cada potencia de dos se divide en
+ * 64 cubetas, así el error relativo de un percentil es menor a 1/64 (~1.6%). El mínimo, el
+ * máximo y el promedio son exactos; la varianza se acumula en línea (Welford).
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;        // cubetas por potencia de dos
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;            // valores exactos: [0, 128)
+    private static final int LINEAR_BITS = SUB_BUCKET_BITS + 1;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - LINEAR_BITS) * SUB_BUCKETS;
+
+    private final long[] counts;
+    private long count;
+    private long sum;
+    private double m2; // suma de cuadrados de las desviaciones respecto del promedio
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public LatencyHistogram() {
+        this.counts = new long[BUCKET_COUNT];
+    }
+
+    private LatencyHistogram(LatencyHistogram other) {
+        this.counts = other.counts.clone();
+        this.count = other.count;
+        this.sum = other.sum;
+        this.m2 = other.m2;
+        this.min = other.min;
+        this.max = other.max;
+    }
+
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts[bucketIndex(v)]++;
+        double previousMean = getMean();
+        count++;
+        sum += v;
+        m2 += (v - previousMean) * (v - getMean());
+        if (v < min) min = v;
+        if (v > max) max = v;
+    }
+
+    /**
+     * Suma las observaciones de otro histograma
+     */
+    public void add(LatencyHistogram other) {
+        if (other.count == 0) {
+            return;
+        }
+        double delta = other.getMean() - getMean();
+        m2 += other.m2 + delta * delta * ((double) count * other.count / (count + other.count));
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public LatencyHistogram copy() {
+        return new LatencyHistogram(this);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Varianza poblacional de las observaciones
+     */
+    public double getVariance() {
+        return count == 0 ? 0.0 : m2 / count;
+    }
+
+    public double getStdDev() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Valor en el percentil dado (0-100): el menor valor tal que al menos ese porcentaje de las
+     * observaciones es menor o igual. Retorna el punto medio de la cubeta, acotado al máximo.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        double p = Math.min(100.0, Math.max(0.0, percentile));
+        long rank = Math.max(1, (long) Math.ceil(p / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(getMin(), Math.min(max, bucketMidpoint(i)));
+            }
+        }
+        return max;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value); // >= LINEAR_BITS
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;   // [0, 64)
+        return LINEAR_LIMIT + (exponent - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int exponent = offset / SUB_BUCKETS + LINEAR_BITS;
+        int subBucket = offset % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    private static long bucketMidpoint(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_BITS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return bucketLowerBound(index) + (width - 1) / 2;
+    }
+}
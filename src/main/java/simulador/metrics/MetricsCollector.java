@@ -1,15 +1,40 @@
 package simulador.metrics;
 
+import simulador.clock.RealTimeClock;
+import simulador.clock.SimulationClock;
 import simulador.process.Process;
 import simulador.process.ProcessThread;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 
 /**
  * Recolecta y calcula métricas de desempeño del sistema
  */
 public class MetricsCollector {
-    
+
+    private static final String SPILL_HEADER = "pid,arrival,priority,cpu_units,waiting_ms,turnaround_ms,response_ms";
+
+    private final SimulationClock clock;
     private final List<ProcessMetrics> processMetrics;
+    private boolean retainProcessMetrics;
+    // Acumulados: los promedios no dependen de conservar el detalle por proceso
+    private long processCount;
+    private long totalWaitingTime;
+    private long totalTurnaroundTime;
+    private long totalResponseTime;
+    // Distribuciones de memoria fija para percentiles, también sin el detalle por proceso
+    private final LatencyHistogram waitingHistogram = new LatencyHistogram();
+    private final LatencyHistogram turnaroundHistogram = new LatencyHistogram();
+    private final LatencyHistogram responseHistogram = new LatencyHistogram();
+    // Mismos agregados por prioridad (opcional); la memoria depende de las prioridades distintas
+    private boolean groupByPriority;
+    private final Map<Integer, GroupMetrics> priorityGroups = new TreeMap<>();
+    // Volcado opcional de cada proceso a un CSV, para análisis posterior sin retenerlos en memoria
+    private BufferedWriter processSpill;
+    private Path processSpillPath;
     private long totalCPUTime;
     private long totalIdleTime;
     private long totalContextSwitchTime;
@@ -17,12 +42,82 @@ public class MetricsCollector {
     private long simulationEndTime;
     private int totalPageFaults;
     private int totalPageReplacements;
+    // Tiempo por núcleo en ms simulados: ocupado (CPU + cambio de contexto) y total contabilizado
+    private long[] coreBusyTime;
+    private long[] coreTotalTime;
 
     public MetricsCollector() {
+        this(new RealTimeClock());
+    }
+
+    public MetricsCollector(SimulationClock clock) {
+        this.clock = clock;
         this.processMetrics = new ArrayList<>();
+        this.retainProcessMetrics = true;
         this.totalCPUTime = 0;
         this.totalIdleTime = 0;
         this.totalContextSwitchTime = 0;
+        this.coreBusyTime = new long[1];
+        this.coreTotalTime = new long[1];
+    }
+
+    public void setCoreCount(int cores) {
+        this.coreBusyTime = new long[cores];
+        this.coreTotalTime = new long[cores];
+    }
+
+    public int getCoreCount() {
+        return coreTotalTime.length;
+    }
+
+    /**
+     * Con false solo se acumulan totales y la memoria no crece con la cantidad de procesos
+     * (para cargas en streaming); el reporte omite entonces la tabla por proceso.
+     */
+    public void setRetainProcessMetrics(boolean retainProcessMetrics) {
+        this.retainProcessMetrics = retainProcessMetrics;
+    }
+
+    public boolean isRetainProcessMetrics() {
+        return retainProcessMetrics;
+    }
+
+    public long getProcessCount() {
+        return processCount;
+    }
+
+    /**
+     * Agrega además los tiempos por prioridad del proceso
+     */
+    public void setGroupByPriority(boolean groupByPriority) {
+        this.groupByPriority = groupByPriority;
+    }
+
+    public boolean isGroupByPriority() {
+        return groupByPriority;
+    }
+
+    /**
+     * Escribe una fila CSV por proceso registrado en el archivo dado (se cierra con closeProcessSpill)
+     */
+    public void setProcessSpill(Path file) throws IOException {
+        closeProcessSpill();
+        processSpill = Files.newBufferedWriter(file);
+        processSpillPath = file;
+        processSpill.write(SPILL_HEADER);
+        processSpill.newLine();
+    }
+
+    public void closeProcessSpill() {
+        if (processSpill == null) {
+            return;
+        }
+        try {
+            processSpill.close();
+        } catch (IOException e) {
+            System.err.println("[MetricsCollector] Error closing " + processSpillPath + ": " + e.getMessage());
+        }
+        processSpill = null;
     }
 
     public void startSimulation() {
@@ -39,18 +134,48 @@ public class MetricsCollector {
     }
 
     public void recordProcess(Process process, long waitingMillis, long turnaroundMillis, long responseMillis) {
+        processCount++;
+        totalWaitingTime += waitingMillis;
+        totalTurnaroundTime += turnaroundMillis;
+        totalResponseTime += responseMillis;
+        waitingHistogram.record(waitingMillis);
+        turnaroundHistogram.record(turnaroundMillis);
+        responseHistogram.record(responseMillis);
+        if (groupByPriority) {
+            priorityGroups.computeIfAbsent(process.getPriority(), priority -> new GroupMetrics())
+                    .record(waitingMillis, turnaroundMillis, responseMillis);
+        }
+        if (processSpill != null) {
+            spill(process, waitingMillis, turnaroundMillis, responseMillis);
+        }
+        if (!retainProcessMetrics) {
+            return;
+        }
+
         ProcessMetrics metrics = new ProcessMetrics();
 
         metrics.pid = process.getPid();
         metrics.arrivalTime = process.getArrivalTime();
         metrics.waitingTime = waitingMillis;
         metrics.turnaroundTime = turnaroundMillis;
-        metrics.burstTime = calculateTotalBurstTime(process);
+        metrics.burstTime = process.getTotalCPUTime();
         metrics.responseTime = responseMillis;
 
         processMetrics.add(metrics);
     }
 
+    private void spill(Process process, long waitingMillis, long turnaroundMillis, long responseMillis) {
+        try {
+            processSpill.write(process.getPid() + "," + process.getArrivalTime() + "," + process.getPriority() + ","
+                    + process.getTotalCPUTime() + "," + waitingMillis + "," + turnaroundMillis + "," + responseMillis);
+            processSpill.newLine();
+        } catch (IOException e) {
+            // No se detiene la simulación: se deja de volcar y se informa
+            System.err.println("[MetricsCollector] Error writing " + processSpillPath + ": " + e.getMessage());
+            closeProcessSpill();
+        }
+    }
+
     public void addCPUTime(long time) {
         totalCPUTime += time;
     }
@@ -63,6 +188,39 @@ public class MetricsCollector {
         totalContextSwitchTime += time;
     }
 
+    // Variantes en unidades lógicas, convertidas a ms simulados según el reloj
+    public void addCPUUnits(long units) {
+        addCPUTime(clock.toMillis(units));
+    }
+
+    public void addIdleUnits(long units) {
+        addIdleTime(clock.toMillis(units));
+    }
+
+    public void addContextSwitchUnits(long units) {
+        addContextSwitchTime(clock.toMillis(units));
+    }
+
+    public void addCPUUnits(int core, long units) {
+        long millis = clock.toMillis(units);
+        addCPUTime(millis);
+        coreBusyTime[core] += millis;
+        coreTotalTime[core] += millis;
+    }
+
+    public void addIdleUnits(int core, long units) {
+        long millis = clock.toMillis(units);
+        addIdleTime(millis);
+        coreTotalTime[core] += millis;
+    }
+
+    public void addContextSwitchUnits(int core, long units) {
+        long millis = clock.toMillis(units);
+        addContextSwitchTime(millis);
+        coreBusyTime[core] += millis;
+        coreTotalTime[core] += millis;
+    }
+
     public void setPageFaults(int faults) {
         this.totalPageFaults = faults;
     }
@@ -71,18 +229,6 @@ public class MetricsCollector {
         this.totalPageReplacements = replacements;
     }
 
-    private int calculateTotalBurstTime(Process process) {
-        int total = 0;
-        for (String burst : process.getBursts()) {
-            if (burst.startsWith("CPU")) {
-                int start = burst.indexOf('(') + 1;
-                int end = burst.indexOf(')');
-                total += Integer.parseInt(burst.substring(start, end));
-            }
-        }
-        return total;
-    }
-
     private long calculateResponseTime(ProcessThread thread) {
         // Tiempo desde llegada hasta primera ejecución
         List<ProcessThread.ExecutionEvent> log = thread.getExecutionLog();
@@ -95,36 +241,64 @@ public class MetricsCollector {
     }
 
     public double getAverageWaitingTime() {
-        if (processMetrics.isEmpty()) return 0.0;
-        return processMetrics.stream()
-                .mapToLong(m -> m.waitingTime)
-                .average()
-                .orElse(0.0);
+        if (processCount == 0) return 0.0;
+        return (double) totalWaitingTime / processCount;
     }
 
     public double getAverageTurnaroundTime() {
-        if (processMetrics.isEmpty()) return 0.0;
-        return processMetrics.stream()
-                .mapToLong(m -> m.turnaroundTime)
-                .average()
-                .orElse(0.0);
+        if (processCount == 0) return 0.0;
+        return (double) totalTurnaroundTime / processCount;
     }
 
     public double getAverageResponseTime() {
-        if (processMetrics.isEmpty()) return 0.0;
-        return processMetrics.stream()
-                .mapToLong(m -> m.responseTime)
-                .average()
-                .orElse(0.0);
+        if (processCount == 0) return 0.0;
+        return (double) totalResponseTime / processCount;
+    }
+
+    /**
+     * Copias de las distribuciones de tiempos (ms) para consultar percentiles
+     */
+    public LatencyHistogram getWaitingTimeHistogram() {
+        return waitingHistogram.copy();
+    }
+
+    public LatencyHistogram getTurnaroundTimeHistogram() {
+        return turnaroundHistogram.copy();
+    }
+
+    public LatencyHistogram getResponseTimeHistogram() {
+        return responseHistogram.copy();
+    }
+
+    /**
+     * Agregados por prioridad (copias), ordenados por prioridad; vacío si no se agrupa
+     */
+    public Map<Integer, GroupMetrics> getPriorityGroups() {
+        Map<Integer, GroupMetrics> copy = new TreeMap<>();
+        for (Map.Entry<Integer, GroupMetrics> entry : priorityGroups.entrySet()) {
+            copy.put(entry.getKey(), entry.getValue().copy());
+        }
+        return copy;
     }
 
     public double getCPUUtilization() {
-        long totalTime = simulationEndTime - simulationStartTime;
+        // Se usa el tiempo simulado contabilizado (CPU + ocioso + cambios de contexto) para que el
+        // resultado no dependa de la velocidad real del motor; el reloj de pared queda como respaldo
+        long totalTime = totalCPUTime + totalIdleTime + totalContextSwitchTime;
+        if (totalTime == 0) totalTime = simulationEndTime - simulationStartTime;
         if (totalTime == 0) return 0.0;
         long busyTime = totalCPUTime + totalContextSwitchTime;
         return (double) busyTime / totalTime * 100.0;
     }
 
+    /**
+     * Utilización de un núcleo: tiempo ocupado sobre tiempo contabilizado en ese núcleo
+     */
+    public double getCoreUtilization(int core) {
+        if (coreTotalTime[core] == 0) return 0.0;
+        return (double) coreBusyTime[core] / coreTotalTime[core] * 100.0;
+    }
+
     public long getTotalContextSwitchTime() {
         return totalContextSwitchTime;
     }
@@ -146,13 +320,17 @@ public class MetricsCollector {
         report.append("=== SIMULATION METRICS ===\n\n");
         
         report.append("Process Metrics:\n");
-        report.append(String.format("%-8s %-12s %-12s %-12s %-12s\n", 
-                "PID", "Arrival", "Waiting", "Turnaround", "Response"));
-        report.append("-".repeat(60)).append("\n");
-        
-        for (ProcessMetrics m : processMetrics) {
-            report.append(String.format("%-8s %-12d %-12d %-12d %-12d\n",
-                    m.pid, m.arrivalTime, m.waitingTime, m.turnaroundTime, m.responseTime));
+        if (retainProcessMetrics) {
+            report.append(String.format("%-8s %-12s %-12s %-12s %-12s\n",
+                    "PID", "Arrival", "Waiting", "Turnaround", "Response"));
+            report.append("-".repeat(60)).append("\n");
+
+            for (ProcessMetrics m : processMetrics) {
+                report.append(String.format("%-8s %-12d %-12d %-12d %-12d\n",
+                        m.pid, m.arrivalTime, m.waitingTime, m.turnaroundTime, m.responseTime));
+            }
+        } else {
+            report.append(String.format("%d processes (per-process detail not retained)\n", processCount));
         }
         
         report.append("\nAverage Metrics:\n");
@@ -160,7 +338,34 @@ public class MetricsCollector {
         report.append(String.format("Average Turnaround Time: %.2f ms\n", getAverageTurnaroundTime()));
         report.append(String.format("Average Response Time: %.2f ms\n", getAverageResponseTime()));
         report.append(String.format("CPU Utilization: %.2f%%\n", getCPUUtilization()));
+        if (getCoreCount() > 1) {
+            for (int core = 0; core < getCoreCount(); core++) {
+                report.append(String.format("  CPU %d Utilization: %.2f%%\n", core, getCoreUtilization(core)));
+            }
+        }
         report.append(String.format("Context Switch Time: %d ms\n", totalContextSwitchTime));
+
+        if (processCount > 0) {
+            report.append("\nDistribution (ms):\n");
+            report.append(String.format("%-12s %-10s %-10s %-10s %-10s %-10s %-10s %-10s %-10s\n",
+                    "Metric", "Mean", "StdDev", "Min", "p50", "p90", "p99", "p99.9", "Max"));
+            appendPercentiles(report, "Waiting", waitingHistogram);
+            appendPercentiles(report, "Turnaround", turnaroundHistogram);
+            appendPercentiles(report, "Response", responseHistogram);
+        }
+        if (!priorityGroups.isEmpty()) {
+            report.append("\nBy Priority (ms):\n");
+            report.append(String.format("%-10s %-10s %-12s %-12s %-14s %-14s %-12s %-12s\n", "Priority", "Count",
+                    "Avg Waiting", "p99 Waiting", "Avg Turnaround", "p99 Turnaround", "Avg Response", "p99 Response"));
+            for (Map.Entry<Integer, GroupMetrics> entry : priorityGroups.entrySet()) {
+                GroupMetrics group = entry.getValue();
+                report.append(String.format("%-10d %-10d %-12.2f %-12d %-14.2f %-14d %-12.2f %-12d\n", entry.getKey(),
+                        group.getCount(),
+                        group.waiting.getMean(), group.waiting.getValueAtPercentile(99),
+                        group.turnaround.getMean(), group.turnaround.getValueAtPercentile(99),
+                        group.response.getMean(), group.response.getValueAtPercentile(99)));
+            }
+        }
         
         report.append("\nMemory Metrics:\n");
         report.append(String.format("Total Page Faults: %d\n", totalPageFaults));
@@ -169,6 +374,57 @@ public class MetricsCollector {
         return report.toString();
     }
 
+    private static void appendPercentiles(StringBuilder report, String name, LatencyHistogram histogram) {
+        report.append(String.format("%-12s %-10.2f %-10.2f %-10d %-10d %-10d %-10d %-10d %-10d\n", name,
+                histogram.getMean(), histogram.getStdDev(), histogram.getMin(), histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9), histogram.getMax()));
+    }
+
+    /**
+     * Distribuciones de tiempos (ms) de un grupo de procesos
+     */
+    public static class GroupMetrics {
+        private final LatencyHistogram waiting;
+        private final LatencyHistogram turnaround;
+        private final LatencyHistogram response;
+
+        GroupMetrics() {
+            this(new LatencyHistogram(), new LatencyHistogram(), new LatencyHistogram());
+        }
+
+        private GroupMetrics(LatencyHistogram waiting, LatencyHistogram turnaround, LatencyHistogram response) {
+            this.waiting = waiting;
+            this.turnaround = turnaround;
+            this.response = response;
+        }
+
+        void record(long waitingMillis, long turnaroundMillis, long responseMillis) {
+            waiting.record(waitingMillis);
+            turnaround.record(turnaroundMillis);
+            response.record(responseMillis);
+        }
+
+        GroupMetrics copy() {
+            return new GroupMetrics(waiting.copy(), turnaround.copy(), response.copy());
+        }
+
+        public long getCount() {
+            return waiting.getCount();
+        }
+
+        public LatencyHistogram getWaitingTime() {
+            return waiting;
+        }
+
+        public LatencyHistogram getTurnaroundTime() {
+            return turnaround;
+        }
+
+        public LatencyHistogram getResponseTime() {
+            return response;
+        }
+    }
+
     // Clase interna para almacenar métricas de un proceso
     public static class ProcessMetrics {
         public String pid;
@@ -0,0 +1,275 @@
+package simulador.metrics;
+
+import simulador.process.Process;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Serie temporal de indicadores del motor muestreados cada N unidades de tiempo lógico: largo de
+ * las colas de listos, PID en ejecución por núcleo, marcos libres, fallos de página acumulados,
+ * procesos bloqueados y operaciones de E/S en curso.
+ *
+ * Las muestras se guardan en buffers circulares de arreglos primitivos dimensionados al crear el
+ * registrador; al llenarse se descartan las más antiguas, así la memoria no crece con la duración
+ * de la simulación. Los PIDs se guardan como referencias a los Strings de los procesos (sin copia).
+ * Lo escribe solo el hilo del motor; exportar después de que la simulación termina.
+ *
+ * Formato binario (little-endian), encabezado de 24 bytes:
+ *   magic "SOTS" | versión (u16) | núcleos (u16) | intervalo (i32) | muestras (i32) | descartadas (i64)
+ * Cada muestra: tiempo | listos | marcos libres | fallos de página | bloqueados | E/S en curso (i32)
+ *   y por núcleo el PID en ejecución como largo (u16) + UTF-8 (largo 0 si el núcleo está libre)
+ */
+public class TimeSeriesRecorder {
+
+    public static final byte[] MAGIC = {'S', 'O', 'T', 'S'};
+    public static final short VERSION = 1;
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final int interval;
+    private final int capacity;
+    private final int cores;
+    private final int[] times;
+    private final int[] readyQueue;
+    private final int[] freeFrames;
+    private final int[] pageFaults;
+    private final int[] blocked;
+    private final int[] ioInFlight;
+    private final String[] runningPids; // capacity * cores
+    private int head; // próxima posición a escribir
+    private int size;
+    private long dropped;
+    private int nextSampleTime;
+
+    public TimeSeriesRecorder(int interval, int cores) {
+        this(interval, DEFAULT_CAPACITY, cores);
+    }
+
+    public TimeSeriesRecorder(int interval, int capacity, int cores) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("interval must be >= 1");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1");
+        }
+        if (cores < 1) {
+            throw new IllegalArgumentException("cores must be >= 1");
+        }
+        this.interval = interval;
+        this.capacity = capacity;
+        this.cores = cores;
+        this.times = new int[capacity];
+        this.readyQueue = new int[capacity];
+        this.freeFrames = new int[capacity];
+        this.pageFaults = new int[capacity];
+        this.blocked = new int[capacity];
+        this.ioInFlight = new int[capacity];
+        this.runningPids = new String[capacity * cores];
+    }
+
+    /**
+     * true si en el tiempo indicado corresponde tomar una muestra. En modo por eventos el reloj
+     * puede saltar varios intervalos a la vez: se toma una sola muestra con el tiempo real.
+     */
+    public boolean isDue(int time) {
+        return time >= nextSampleTime;
+    }
+
+    public void record(int time, int ready, Process[] running, int free, int faults, int blockedCount, int io) {
+        int slot = head;
+        times[slot] = time;
+        readyQueue[slot] = ready;
+        freeFrames[slot] = free;
+        pageFaults[slot] = faults;
+        blocked[slot] = blockedCount;
+        ioInFlight[slot] = io;
+        int base = slot * cores;
+        for (int core = 0; core < cores; core++) {
+            Process process = core < running.length ? running[core] : null;
+            runningPids[base + core] = process != null ? process.getPid() : null;
+        }
+        head = head + 1 == capacity ? 0 : head + 1;
+        if (size < capacity) {
+            size++;
+        } else {
+            dropped++;
+        }
+        nextSampleTime = (time / interval + 1) * interval;
+    }
+
+    /**
+     * Descarta las muestras y vuelve a empezar desde el tiempo 0
+     */
+    public void reset() {
+        head = 0;
+        size = 0;
+        dropped = 0;
+        nextSampleTime = 0;
+        Arrays.fill(runningPids, null);
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getCoreCount() {
+        return cores;
+    }
+
+    /**
+     * Cantidad de muestras retenidas (como máximo la capacidad)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Muestras descartadas por falta de espacio (las más antiguas)
+     */
+    public long getDroppedSamples() {
+        return dropped;
+    }
+
+    // Los accesores usan índices desde la muestra retenida más antigua (0) a la más reciente (size - 1)
+    public int getTime(int index) {
+        return times[slot(index)];
+    }
+
+    public int getReadyQueueLength(int index) {
+        return readyQueue[slot(index)];
+    }
+
+    public String getRunningPid(int index, int core) {
+        if (core < 0 || core >= cores) {
+            throw new IndexOutOfBoundsException("core " + core);
+        }
+        return runningPids[slot(index) * cores + core];
+    }
+
+    public int getFreeFrames(int index) {
+        return freeFrames[slot(index)];
+    }
+
+    public int getPageFaults(int index) {
+        return pageFaults[slot(index)];
+    }
+
+    public int getBlockedCount(int index) {
+        return blocked[slot(index)];
+    }
+
+    public int getIOInFlight(int index) {
+        return ioInFlight[slot(index)];
+    }
+
+    private int slot(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("sample " + index + " of " + size);
+        }
+        int slot = head - size + index;
+        return slot < 0 ? slot + capacity : slot;
+    }
+
+    /**
+     * Escribe las muestras retenidas como CSV: time,ready_queue,running_core0..N,free_frames,
+     * page_faults,blocked,io_in_flight (el PID queda vacío si el núcleo está libre)
+     */
+    public void writeCsv(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            StringBuilder line = new StringBuilder("time,ready_queue");
+            for (int core = 0; core < cores; core++) {
+                line.append(",running_core").append(core);
+            }
+            line.append(",free_frames,page_faults,blocked,io_in_flight");
+            writer.write(line.toString());
+            writer.newLine();
+            for (int i = 0; i < size; i++) {
+                int slot = slot(i);
+                line.setLength(0);
+                line.append(times[slot]).append(',').append(readyQueue[slot]);
+                for (int core = 0; core < cores; core++) {
+                    String pid = runningPids[slot * cores + core];
+                    line.append(',');
+                    if (pid != null) {
+                        line.append(pid);
+                    }
+                }
+                line.append(',').append(freeFrames[slot])
+                        .append(',').append(pageFaults[slot])
+                        .append(',').append(blocked[slot])
+                        .append(',').append(ioInFlight[slot]);
+                writer.write(line.toString());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Escribe las muestras retenidas en el formato binario descrito en la clase
+     */
+    public void writeBinary(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put(MAGIC);
+            buffer.putShort(VERSION);
+            buffer.putShort((short) cores);
+            buffer.putInt(interval);
+            buffer.putInt(size);
+            buffer.putLong(dropped);
+            for (int i = 0; i < size; i++) {
+                int slot = slot(i);
+                if (buffer.remaining() < 6 * Integer.BYTES) {
+                    flush(channel, buffer);
+                }
+                buffer.putInt(times[slot]);
+                buffer.putInt(readyQueue[slot]);
+                buffer.putInt(freeFrames[slot]);
+                buffer.putInt(pageFaults[slot]);
+                buffer.putInt(blocked[slot]);
+                buffer.putInt(ioInFlight[slot]);
+                for (int core = 0; core < cores; core++) {
+                    String pid = runningPids[slot * cores + core];
+                    byte[] bytes = pid != null ? pid.getBytes(StandardCharsets.UTF_8) : new byte[0];
+                    if (bytes.length > 0xFFFF) {
+                        throw new IOException("PID too long: " + pid);
+                    }
+                    if (buffer.remaining() < Short.BYTES + bytes.length) {
+                        flush(channel, buffer);
+                    }
+                    if (buffer.remaining() < Short.BYTES + bytes.length) {
+                        ByteBuffer large = ByteBuffer.allocate(Short.BYTES + bytes.length).order(ByteOrder.LITTLE_ENDIAN);
+                        large.putShort((short) bytes.length).put(bytes);
+                        flush(channel, large); // PID más largo que el buffer
+                    } else {
+                        buffer.putShort((short) bytes.length);
+                        buffer.put(bytes);
+                    }
+                }
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
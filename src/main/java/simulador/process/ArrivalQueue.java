@@ -0,0 +1,178 @@
+package simulador.process;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Cola de llegadas ordenada por tiempo de llegada. Los procesos cargados se ordenan una sola
+ * vez y se consumen con un cursor; los que se agregan durante la simulación con un tiempo de
+ * llegada anterior al último pendiente van a un montículo, sin reordenar la lista.
+ * A igual tiempo de llegada se respeta el orden de inserción.
+ * Opcionalmente se lee de una WorkloadSource con un solo proceso de anticipación, sin
+ * materializar la carga completa.
+ */
+public class ArrivalQueue {
+
+    private static final Comparator<Process> BY_ARRIVAL = Comparator.comparingInt(Process::getArrivalTime);
+
+    private final List<Process> sorted;
+    private final PriorityQueue<LateArrival> late;
+    private int cursor;
+    private long lateSequence;
+    private WorkloadSource source;
+    private Process sourceHead; // próximo proceso ya leído de la fuente
+
+    public ArrivalQueue() {
+        this.sorted = new ArrayList<>();
+        this.late = new PriorityQueue<>();
+        this.cursor = 0;
+        this.lateSequence = 0;
+    }
+
+    /**
+     * Agrega un proceso: O(1) si llega en orden, O(log n) si llega antes que el último pendiente
+     */
+    public synchronized void add(Process process) {
+        if (sorted.size() == cursor || sorted.get(sorted.size() - 1).getArrivalTime() <= process.getArrivalTime()) {
+            sorted.add(process);
+        } else {
+            late.add(new LateArrival(process, lateSequence++));
+        }
+    }
+
+    /**
+     * Agrega un lote y ordena una sola vez la parte pendiente (orden estable)
+     */
+    public synchronized void addAll(Collection<Process> processes) {
+        int from = sorted.size();
+        sorted.addAll(processes);
+        for (int i = Math.max(from, cursor + 1); i < sorted.size(); i++) {
+            if (sorted.get(i - 1).getArrivalTime() > sorted.get(i).getArrivalTime()) {
+                sorted.subList(cursor, sorted.size()).sort(BY_ARRIVAL);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Conecta una fuente que se consume bajo demanda; sus procesos se intercalan por tiempo
+     * de llegada con los agregados directamente (a igual tiempo, estos van primero)
+     */
+    public synchronized void setSource(WorkloadSource source) {
+        closeSource();
+        this.source = source;
+    }
+
+    /**
+     * Tiempo de llegada del próximo proceso pendiente (Integer.MAX_VALUE si no queda ninguno)
+     */
+    public synchronized int peekArrivalTime() {
+        int next = Integer.MAX_VALUE;
+        if (fillSourceHead()) {
+            next = sourceHead.getArrivalTime();
+        }
+        if (cursor < sorted.size()) {
+            next = Math.min(next, sorted.get(cursor).getArrivalTime());
+        }
+        LateArrival head = late.peek();
+        if (head != null && head.process.getArrivalTime() < next) {
+            next = head.process.getArrivalTime();
+        }
+        return next;
+    }
+
+    /**
+     * Retira el siguiente proceso cuya llegada es <= time, o null si no hay ninguno
+     */
+    public synchronized Process pollArrived(int time) {
+        LateArrival head = late.peek();
+        boolean fromSorted = cursor < sorted.size()
+                && (head == null || sorted.get(cursor).getArrivalTime() <= head.process.getArrivalTime());
+        Process candidate = fromSorted ? sorted.get(cursor) : head != null ? head.process : null;
+        if (fillSourceHead() && (candidate == null || sourceHead.getArrivalTime() < candidate.getArrivalTime())) {
+            if (sourceHead.getArrivalTime() > time) {
+                return null;
+            }
+            Process next = sourceHead;
+            sourceHead = null;
+            return next;
+        }
+        if (fromSorted) {
+            Process next = sorted.get(cursor);
+            if (next.getArrivalTime() > time) {
+                return null;
+            }
+            sorted.set(cursor++, null); // liberar la referencia ya consumida
+            if (cursor == sorted.size()) {
+                sorted.clear();
+                cursor = 0;
+            }
+            return next;
+        }
+        if (head != null && head.process.getArrivalTime() <= time) {
+            return late.poll().process;
+        }
+        return null;
+    }
+
+    /**
+     * Procesos pendientes ya materializados (no incluye los que la fuente aún no leyó)
+     */
+    public synchronized int pendingCount() {
+        return sorted.size() - cursor + late.size() + (sourceHead != null ? 1 : 0);
+    }
+
+    public synchronized boolean isEmpty() {
+        return pendingCount() == 0 && !fillSourceHead();
+    }
+
+    // Lee el siguiente proceso de la fuente si hace falta; false si la fuente está agotada
+    private boolean fillSourceHead() {
+        if (sourceHead != null) {
+            return true;
+        }
+        if (source == null) {
+            return false;
+        }
+        try {
+            sourceHead = source.next();
+        } catch (IOException e) {
+            closeSource();
+            throw new UncheckedIOException(e);
+        }
+        if (sourceHead == null) {
+            closeSource();
+            return false;
+        }
+        return true;
+    }
+
+    private void closeSource() {
+        if (source == null) {
+            return;
+        }
+        try {
+            source.close();
+        } catch (IOException e) {
+            System.err.println("[ArrivalQueue] Error closing workload source: " + e.getMessage());
+        }
+        source = null;
+    }
+
+    private static class LateArrival implements Comparable<LateArrival> {
+        final Process process;
+        final long sequence;
+
+        LateArrival(Process process, long sequence) {
+            this.process = process;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(LateArrival other) {
+            int byArrival = Integer.compare(process.getArrivalTime(), other.process.getArrivalTime());
+            return byArrival != 0 ? byArrival : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package simulador.process;
+
+/**
+ * Ráfaga ya interpretada: tipo (CPU o E/S) y duración en unidades lógicas.
+ * Es inmutable; las duraciones cortas se comparten para no crear objetos repetidos.
+ */
+public final class Burst {
+
+    public enum Kind {
+        CPU, IO
+    }
+
+    private static final int CACHE_SIZE = 64;
+    private static final Burst[] CPU_CACHE = new Burst[CACHE_SIZE];
+    private static final Burst[] IO_CACHE = new Burst[CACHE_SIZE];
+
+    static {
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            CPU_CACHE[i] = new Burst(Kind.CPU, i);
+            IO_CACHE[i] = new Burst(Kind.IO, i);
+        }
+    }
+
+    private final Kind kind;
+    private final int duration;
+
+    private Burst(Kind kind, int duration) {
+        this.kind = kind;
+        this.duration = duration;
+    }
+
+    public static Burst of(Kind kind, int duration) {
+        if (duration < 0) {
+            throw new IllegalArgumentException("Burst duration must be >= 0: " + duration);
+        }
+        if (duration < CACHE_SIZE) {
+            return kind == Kind.CPU ? CPU_CACHE[duration] : IO_CACHE[duration];
+        }
+        return new Burst(kind, duration);
+    }
+
+    public static Burst cpu(int duration) {
+        return of(Kind.CPU, duration);
+    }
+
+    public static Burst io(int duration) {
+        return of(Kind.IO, duration);
+    }
+
+    /**
+     * Interpreta "CPU(4)", "E/S(3)" o "I/O(3)"
+     */
+    public static Burst parse(String text) {
+        String burst = text.trim();
+        int open = burst.indexOf('(');
+        int close = burst.lastIndexOf(')');
+        if (open <= 0 || close != burst.length() - 1 || close <= open + 1) {
+            throw new IllegalArgumentException("Invalid burst: " + text);
+        }
+        String prefix = burst.substring(0, open).trim();
+        int duration = Integer.parseInt(burst.substring(open + 1, close).trim());
+        if (prefix.equals("CPU")) {
+            return cpu(duration);
+        }
+        if (prefix.equals("E/S") || prefix.equals("I/O")) {
+            return io(duration);
+        }
+        throw new IllegalArgumentException("Unknown burst type: " + text);
+    }
+
+    public Kind getKind() { return kind; }
+    public int getDuration() { return duration; }
+    public boolean isCPU() { return kind == Kind.CPU; }
+    public boolean isIO() { return kind == Kind.IO; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Burst)) return false;
+        Burst other = (Burst) o;
+        return kind == other.kind && duration == other.duration;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * kind.hashCode() + duration;
+    }
+
+    @Override
+    public String toString() {
+        return (kind == Kind.CPU ? "CPU(" : "E/S(") + duration + ")";
+    }
+}
@@ -1,5 +1,9 @@
 package simulador.process;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 public class Process {
@@ -9,52 +13,128 @@ public class Process {
 
     private String pid;
     private int arrivalTime;
-    private List<String> bursts; // CPU(4), E/S(3), CPU(5)
+    private final Burst[] bursts; // CPU(4), E/S(3), CPU(5) ya interpretadas
+    private List<String> burstTexts; // vista de compatibilidad, se crea bajo demanda
+    private final int totalCPUTime;
     private int priority;
     private int pages;
     private State state = State.NEW;
     private int currentBurstIndex = 0;
     private long startTime = 0;
     private long finishTime = 0;
+    private int readySince = -1; // tiempo lógico de entrada a READY (-1 si no está en READY)
+    private int lastCore = -1; // último núcleo donde se ejecutó (afinidad), -1 si nunca corrió
+    ProcessTable table; // tabla que lleva los contadores por estado, si está registrado
+    private Object readyQueue; // cola de listos que lo contiene, null si no está encolado
+    private int readyQueueIndex = -1; // posición dentro de esa cola si es indexada (heap), -1 si no
 
     public Process(String pid, int arrivalTime, List<String> bursts, int priority, int pages) {
+        this(pid, arrivalTime, parseBursts(bursts), priority, pages);
+        this.burstTexts = Collections.unmodifiableList(new ArrayList<>(bursts));
+    }
+
+    public Process(String pid, int arrivalTime, Burst[] bursts, int priority, int pages) {
         this.pid = pid;
         this.arrivalTime = arrivalTime;
-        this.bursts = bursts;
+        this.bursts = bursts.clone();
         this.priority = priority;
         this.pages = pages;
+        int cpu = 0;
+        for (Burst burst : bursts) {
+            if (burst.isCPU()) {
+                cpu += burst.getDuration();
+            }
+        }
+        this.totalCPUTime = cpu;
+    }
+
+    /**
+     * Crea una copia sin estado de ejecución (NEW, primera ráfaga), compartiendo las ráfagas inmutables
+     */
+    public Process copy() {
+        Process copy = new Process(pid, arrivalTime, bursts, priority, pages);
+        copy.burstTexts = burstTexts;
+        return copy;
+    }
+
+    private static Burst[] parseBursts(List<String> texts) {
+        Burst[] parsed = new Burst[texts.size()];
+        for (int i = 0; i < parsed.length; i++) {
+            parsed[i] = Burst.parse(texts.get(i));
+        }
+        return parsed;
     }
 
     public String getPid() { return pid; }
     public int getArrivalTime() { return arrivalTime; }
-    public List<String> getBursts() { return bursts; }
     public int getPriority() { return priority; }
     public int getPages() { return pages; }
     public State getState() { return state; }
     public int getCurrentBurstIndex() { return currentBurstIndex; }
     public long getStartTime() { return startTime; }
     public long getFinishTime() { return finishTime; }
+    public int getReadySince() { return readySince; }
+    public int getLastCore() { return lastCore; }
+    public Object getReadyQueue() { return readyQueue; }
+    public int getReadyQueueIndex() { return readyQueueIndex; }
 
-    public void setState(State s) { this.state = s; }
+    public int getBurstCount() { return bursts.length; }
+    public Burst getBurst(int index) { return bursts[index]; }
+    public List<Burst> getBurstList() { return Collections.unmodifiableList(Arrays.asList(bursts)); }
+
+    /**
+     * Ráfaga en curso, o null si ya completó todas
+     */
+    public Burst getCurrentBurst() {
+        return currentBurstIndex < bursts.length ? bursts[currentBurstIndex] : null;
+    }
+
+    /**
+     * Vista de compatibilidad con el formato de texto ("CPU(4)", "E/S(3)", ...). Si el proceso se
+     * creó con la lista de textos se retornan esos mismos; si no (FileParser, archivos binarios,
+     * copy de esos procesos) se regeneran desde Burst.toString en forma normalizada: "I/O(3)"
+     * vuelve como "E/S(3)" (mismo tipo y duración).
+     */
+    public List<String> getBursts() {
+        if (burstTexts == null) {
+            burstTexts = new AbstractList<String>() {
+                @Override
+                public String get(int index) { return bursts[index].toString(); }
+
+                @Override
+                public int size() { return bursts.length; }
+            };
+        }
+        return burstTexts;
+    }
+
+    public void setState(State s) {
+        State previous = this.state;
+        this.state = s;
+        if (table != null && previous != s) {
+            table.stateChanged(previous, s);
+        }
+    }
     public void setCurrentBurstIndex(int index) { this.currentBurstIndex = index; }
     public void setStartTime(long time) { this.startTime = time; }
     public void setFinishTime(long time) { this.finishTime = time; }
+    public void setReadySince(int time) { this.readySince = time; }
+    public void setLastCore(int core) { this.lastCore = core; }
+
+    /**
+     * Marca la cola de listos que contiene al proceso (null al salir); la usan los planificadores
+     * para detectar duplicados en O(1) sin recorrer la cola
+     */
+    public void setReadyQueue(Object readyQueue) { this.readyQueue = readyQueue; }
+    public void setReadyQueueIndex(int index) { this.readyQueueIndex = index; }
     
     public int getTotalCPUTime() {
-        int total = 0;
-        for (String burst : bursts) {
-            if (burst.startsWith("CPU")) {
-                int start = burst.indexOf('(') + 1;
-                int end = burst.indexOf(')');
-                total += Integer.parseInt(burst.substring(start, end));
-            }
-        }
-        return total;
+        return totalCPUTime;
     }
     
     @Override
     public String toString() {
         return String.format("Process[%s, arrival=%d, bursts=%d, priority=%d, pages=%d, state=%s]",
-                pid, arrivalTime, bursts.size(), priority, pages, state);
+                pid, arrivalTime, bursts.length, priority, pages, state);
     }
 }
@@ -0,0 +1,134 @@
+package simulador.process;
+
+import java.util.*;
+
+/**
+ * Tabla de procesos indexada: búsqueda por PID en O(1) y contadores por estado
+ * que se actualizan en cada cambio de estado, sin recorrer la lista completa.
+ */
+public class ProcessTable {
+
+    private final List<Process> processes;
+    private final Map<String, Integer> pidIndex; // PID -> posición en la lista
+    private final int[] stateCounts;
+
+    public ProcessTable() {
+        this.processes = new ArrayList<>();
+        this.pidIndex = new HashMap<>();
+        this.stateCounts = new int[Process.State.values().length];
+    }
+
+    /**
+     * Registra un proceso; si el PID ya existía, la búsqueda sigue devolviendo el primero
+     */
+    public synchronized void add(Process process) {
+        if (process.table != null && process.table != this) {
+            throw new IllegalStateException("Process " + process.getPid() + " already belongs to another table");
+        }
+        pidIndex.putIfAbsent(process.getPid(), processes.size());
+        processes.add(process);
+        process.table = this;
+        stateCounts[process.getState().ordinal()]++;
+    }
+
+    public synchronized boolean contains(Process process) {
+        return process.table == this;
+    }
+
+    /**
+     * Quita un proceso en O(1) moviendo el último a su posición (no conserva el orden).
+     * Se usa para liberar procesos terminados cuando la carga se lee en streaming.
+     */
+    public synchronized boolean remove(Process process) {
+        if (process.table != this) {
+            return false;
+        }
+        int index = indexOfInstance(process);
+        int last = processes.size() - 1;
+        Process moved = processes.get(last);
+        processes.set(index, moved);
+        processes.remove(last);
+        if (Integer.valueOf(index).equals(pidIndex.get(process.getPid()))) {
+            pidIndex.remove(process.getPid());
+        }
+        if (moved != process && Integer.valueOf(last).equals(pidIndex.get(moved.getPid()))) {
+            pidIndex.put(moved.getPid(), index);
+        }
+        stateCounts[process.getState().ordinal()]--;
+        process.table = null;
+        return true;
+    }
+
+    public synchronized void addAll(Collection<Process> toAdd) {
+        for (Process process : toAdd) {
+            add(process);
+        }
+    }
+
+    /**
+     * Ordena por tiempo de llegada (orden estable) y reconstruye el índice
+     */
+    public synchronized void sortByArrival() {
+        processes.sort(Comparator.comparingInt(Process::getArrivalTime));
+        pidIndex.clear();
+        for (int i = 0; i < processes.size(); i++) {
+            pidIndex.putIfAbsent(processes.get(i).getPid(), i);
+        }
+    }
+
+    // Posición de esta instancia: por el índice si el PID es único, si no por búsqueda lineal
+    private int indexOfInstance(Process process) {
+        Integer index = pidIndex.get(process.getPid());
+        if (index != null && processes.get(index) == process) {
+            return index;
+        }
+        for (int i = 0; i < processes.size(); i++) {
+            if (processes.get(i) == process) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Process " + process.getPid() + " not found in table");
+    }
+
+    public synchronized Process get(String pid) {
+        Integer index = pidIndex.get(pid);
+        return index != null ? processes.get(index) : null;
+    }
+
+    public synchronized Process get(int index) {
+        return processes.get(index);
+    }
+
+    public synchronized int indexOf(String pid) {
+        return pidIndex.getOrDefault(pid, -1);
+    }
+
+    public synchronized int size() {
+        return processes.size();
+    }
+
+    public synchronized int count(Process.State state) {
+        return stateCounts[state.ordinal()];
+    }
+
+    public synchronized int getTerminatedCount() {
+        return stateCounts[Process.State.TERMINATED.ordinal()];
+    }
+
+    public synchronized boolean allTerminated() {
+        return stateCounts[Process.State.TERMINATED.ordinal()] == processes.size();
+    }
+
+    /**
+     * Copia de la lista en el orden actual
+     */
+    public synchronized List<Process> snapshot() {
+        return new ArrayList<>(processes);
+    }
+
+    // Invocado por Process.setState
+    synchronized void stateChanged(Process.State from, Process.State to) {
+        stateCounts[from.ordinal()]--;
+        stateCounts[to.ordinal()]++;
+    }
+}
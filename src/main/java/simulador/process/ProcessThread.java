@@ -1,5 +1,7 @@
 package simulador.process;
 
+import simulador.clock.RealTimeClock;
+import simulador.clock.SimulationClock;
 import simulador.memory.MemoryManager;
 import simulador.sync.SynchronizationManager;
 import simulador.io.IOManager;
@@ -28,6 +30,7 @@ public class ProcessThread extends Thread {
     private final CPUScheduler scheduler;
     private final MetricsCollector metricsCollector;
     private final simulador.core.Simulator simulator;
+    private final SimulationClock clock;
     private long waitStart;
 
     public ProcessThread(Process process, MemoryManager memoryManager,
@@ -46,6 +49,7 @@ public class ProcessThread extends Thread {
         this.scheduler = scheduler;
         this.metricsCollector = metricsCollector;
         this.simulator = simulator;
+        this.clock = simulator != null ? simulator.getClock() : new RealTimeClock();
         this.waitStart = 0;
     }
 
@@ -61,12 +65,12 @@ public class ProcessThread extends Thread {
             memoryManager.initializeProcess(process);
             
             // Procesar todas las ráfagas
-            while (currentBurstIndex < process.getBursts().size()) {
-                String burst = process.getBursts().get(currentBurstIndex);
+            while (currentBurstIndex < process.getBurstCount()) {
+                Burst burst = process.getBurst(currentBurstIndex);
                 
-                if (burst.startsWith("CPU")) {
+                if (burst.isCPU()) {
                     executeCPUBurst(burst);
-                } else if (burst.startsWith("E/S") || burst.startsWith("I/O")) {
+                } else {
                     executeIOBurst(burst);
                 }
                 
@@ -86,8 +90,8 @@ public class ProcessThread extends Thread {
         }
     }
 
-    private void executeCPUBurst(String burst) throws InterruptedException {
-        int duration = parseBurstDuration(burst);
+    private void executeCPUBurst(Burst burst) throws InterruptedException {
+        int duration = burst.getDuration();
         remainingBurstTime = duration;
 
         logEvent("CPU burst started: " + duration + " units");
@@ -128,7 +132,7 @@ public class ProcessThread extends Thread {
 
                 // Execute unit-by-unit so arrivals and scheduler can observe time progression
                 for (int i = 0; i < runUnits; i++) {
-                    Thread.sleep(100); // 1 unidad = 100ms
+                    clock.sleepUnits(1);
                     remainingBurstTime--;
                     try {
                         if (simulator != null) simulator.advanceTime(1);
@@ -139,7 +143,7 @@ public class ProcessThread extends Thread {
 
                 // record CPU time
                 if (metricsCollector != null) {
-                    metricsCollector.addCPUTime(runUnits * 100L);
+                    metricsCollector.addCPUUnits(runUnits);
                 }
 
                 // Notify END at the current logical time
@@ -179,15 +183,15 @@ public class ProcessThread extends Thread {
         }
     }
 
-    private void executeIOBurst(String burst) throws InterruptedException {
-        int duration = parseBurstDuration(burst);
+    private void executeIOBurst(Burst burst) throws InterruptedException {
+        int duration = burst.getDuration();
         
         logEvent("I/O burst started: " + duration + " units");
         
         process.setState(Process.State.BLOCKED);
         
         // Iniciar operación de E/S
-        ioManager.startIOOperation(process, duration * 100);
+        ioManager.startIOOperation(process, duration);
         
         // Esperar a que termine la E/S
         syncManager.blockProcess(process.getPid());
@@ -198,13 +202,6 @@ public class ProcessThread extends Thread {
         logEvent("I/O burst completed");
     }
 
-    private int parseBurstDuration(String burst) {
-        // Parsea "CPU(4)" o "E/S(3)" -> devuelve el número
-        int start = burst.indexOf('(') + 1;
-        int end = burst.indexOf(')');
-        return Integer.parseInt(burst.substring(start, end));
-    }
-
     private void logEvent(String event) {
         long ts = System.currentTimeMillis();
         executionLog.add(new ExecutionEvent(ts, event));
@@ -0,0 +1,28 @@
+package simulador.process;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Fuente de procesos que el simulador consume bajo demanda, en orden de llegada.
+ * Permite simular cargas que no caben en memoria: solo se materializan los procesos
+ * que ya llegaron y todavía no terminaron.
+ */
+public interface WorkloadSource extends AutoCloseable {
+
+    /**
+     * Siguiente proceso en orden de llegada, o null si la fuente se agotó
+     */
+    Process next() throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+
+    /**
+     * Adapta un iterador (por ejemplo, un generador) como fuente de procesos
+     */
+    static WorkloadSource of(Iterator<Process> iterator) {
+        return () -> iterator.hasNext() ? iterator.next() : null;
+    }
+}
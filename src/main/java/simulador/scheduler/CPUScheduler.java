@@ -5,5 +5,6 @@ import simulador.process.Process;
 public interface CPUScheduler {
     void addProcess(Process p);
     Process getNextProcess();
+    int size();
     String getName();
 }
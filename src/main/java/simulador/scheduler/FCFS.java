@@ -1,19 +1,16 @@
 package simulador.scheduler;
 
 import simulador.process.Process;
-import java.util.LinkedList;
-import java.util.Queue;
 
 public class FCFS implements CPUScheduler {
 
-    private Queue<Process> readyQueue = new LinkedList<>();
+    private final ProcessRingQueue readyQueue = new ProcessRingQueue();
 
     @Override
     public void addProcess(Process p) {
         if (p == null) return;
         if (p.getState() == Process.State.TERMINATED || p.getState() == Process.State.RUNNING) return;
-        if (readyQueue.contains(p)) return;
-        readyQueue.add(p);
+        readyQueue.add(p); // ignora duplicados
     }
 
     @Override
@@ -21,6 +18,11 @@ public class FCFS implements CPUScheduler {
         return readyQueue.poll();
     }
 
+    @Override
+    public int size() {
+        return readyQueue.size();
+    }
+
     @Override
     public String getName() {
         return "FCFS";
@@ -0,0 +1,64 @@
+package simulador.scheduler;
+
+import simulador.process.Process;
+
+/**
+ * Cola FIFO de procesos sobre un arreglo circular que crece al doble cuando se llena. La pertenencia
+ * se marca en el propio proceso (Process.setReadyQueue), así detectar duplicados es O(1) y encolar
+ * no crea nodos.
+ */
+final class ProcessRingQueue {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Process[] elements = new Process[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    /**
+     * Encola al final; retorna false si el proceso ya está en esta cola
+     */
+    boolean add(Process p) {
+        if (p.getReadyQueue() == this) {
+            return false;
+        }
+        if (size == elements.length) {
+            grow();
+        }
+        int tail = head + size;
+        elements[tail < elements.length ? tail : tail - elements.length] = p;
+        size++;
+        p.setReadyQueue(this);
+        return true;
+    }
+
+    /**
+     * Quita y retorna el primero, o null si la cola está vacía
+     */
+    Process poll() {
+        if (size == 0) {
+            return null;
+        }
+        Process p = elements[head];
+        elements[head] = null;
+        head = head + 1 == elements.length ? 0 : head + 1;
+        size--;
+        if (p.getReadyQueue() == this) {
+            p.setReadyQueue(null);
+        }
+        return p;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        Process[] larger = new Process[elements.length * 2];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, larger, 0, firstPart);
+        System.arraycopy(elements, 0, larger, firstPart, size - firstPart);
+        elements = larger;
+        head = 0;
+    }
+}
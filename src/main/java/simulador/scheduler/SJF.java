@@ -8,9 +8,7 @@ public class SJF implements CPUScheduler {
     private PriorityQueue<Process> queue;
 
     public SJF() {
-        queue = new PriorityQueue<>(Comparator.comparingInt(
-                p -> Integer.parseInt(p.getBursts().get(0).replace("CPU(", "").replace(")", ""))
-        ));
+        queue = new PriorityQueue<>(Comparator.comparingInt(p -> p.getBurst(0).getDuration()));
     }
 
     @Override
@@ -26,6 +24,11 @@ public class SJF implements CPUScheduler {
         return queue.poll();
     }
 
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
     @Override
     public String getName() {
         return "SJF";
@@ -0,0 +1,186 @@
+package simulador.scheduler;
+
+import simulador.process.Burst;
+import simulador.process.Process;
+
+import java.util.Arrays;
+
+/**
+ * Shortest Remaining Time First: cola de listos ordenada por el tiempo que le falta a la ráfaga
+ * de CPU actual de cada proceso. El simulador expropia al proceso en ejecución cuando llega uno
+ * con menos tiempo restante (ver peekRemainingTime).
+ *
+ * Es un heap binario indexado: cada proceso guarda su posición (Process.setReadyQueueIndex), así
+ * actualizar la clave o quitar un proceso cualquiera cuesta O(log n). Con claves iguales se
+ * despacha en orden de llegada a la cola.
+ */
+public class SRTF implements CPUScheduler {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Process[] heap = new Process[INITIAL_CAPACITY];
+    private int[] remaining = new int[INITIAL_CAPACITY];   // clave: tiempo restante cacheado
+    private long[] sequence = new long[INITIAL_CAPACITY];  // desempate FIFO
+    private int size;
+    private long nextSequence;
+
+    /**
+     * Encola con el tiempo restante igual a la duración de la ráfaga actual
+     */
+    @Override
+    public void addProcess(Process p) {
+        if (p == null) return;
+        Burst burst = p.getCurrentBurst();
+        addProcess(p, burst != null && burst.isCPU() ? burst.getDuration() : 0);
+    }
+
+    /**
+     * Encola con el tiempo restante indicado (un proceso expropiado a mitad de ráfaga). Si ya
+     * está en la cola solo se actualiza su clave.
+     */
+    public void addProcess(Process p, int remainingTime) {
+        if (p == null) return;
+        if (p.getState() == Process.State.TERMINATED || p.getState() == Process.State.RUNNING) return;
+        if (p.getReadyQueue() == this) {
+            updateRemainingTime(p, remainingTime);
+            return;
+        }
+        if (size == heap.length) {
+            grow();
+        }
+        int index = size++;
+        heap[index] = p;
+        remaining[index] = remainingTime;
+        sequence[index] = nextSequence++;
+        p.setReadyQueue(this);
+        p.setReadyQueueIndex(index);
+        siftUp(index);
+    }
+
+    /**
+     * Cambia el tiempo restante de un proceso encolado; retorna false si no está en esta cola
+     */
+    public boolean updateRemainingTime(Process p, int remainingTime) {
+        if (p.getReadyQueue() != this) {
+            return false;
+        }
+        int index = p.getReadyQueueIndex();
+        int previous = remaining[index];
+        remaining[index] = remainingTime;
+        if (remainingTime < previous) {
+            siftUp(index);
+        } else if (remainingTime > previous) {
+            siftDown(index);
+        }
+        return true;
+    }
+
+    /**
+     * Quita un proceso cualquiera de la cola; retorna false si no estaba
+     */
+    public boolean remove(Process p) {
+        if (p == null || p.getReadyQueue() != this) {
+            return false;
+        }
+        removeAt(p.getReadyQueueIndex());
+        return true;
+    }
+
+    public boolean contains(Process p) {
+        return p != null && p.getReadyQueue() == this;
+    }
+
+    @Override
+    public Process getNextProcess() {
+        return size == 0 ? null : removeAt(0);
+    }
+
+    /**
+     * Tiempo restante del primero de la cola (Integer.MAX_VALUE si está vacía)
+     */
+    public int peekRemainingTime() {
+        return size == 0 ? Integer.MAX_VALUE : remaining[0];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getName() {
+        return "SRTF";
+    }
+
+    private Process removeAt(int index) {
+        Process removed = heap[index];
+        int last = --size;
+        if (index != last) {
+            move(last, index);
+            // El último puede quedar mejor o peor que el padre del hueco: se prueba en ambos sentidos
+            siftDown(index);
+            siftUp(index);
+        }
+        heap[last] = null;
+        removed.setReadyQueue(null);
+        removed.setReadyQueueIndex(-1);
+        return removed;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(index, parent)) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && less(child + 1, child)) {
+                child++;
+            }
+            if (!less(child, index)) {
+                break;
+            }
+            swap(index, child);
+            index = child;
+        }
+    }
+
+    private boolean less(int a, int b) {
+        return remaining[a] < remaining[b] || (remaining[a] == remaining[b] && sequence[a] < sequence[b]);
+    }
+
+    private void swap(int a, int b) {
+        Process process = heap[a];
+        int key = remaining[a];
+        long seq = sequence[a];
+        move(b, a);
+        heap[b] = process;
+        remaining[b] = key;
+        sequence[b] = seq;
+        process.setReadyQueueIndex(b);
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        remaining[to] = remaining[from];
+        sequence[to] = sequence[from];
+        heap[to].setReadyQueueIndex(to);
+    }
+
+    private void grow() {
+        int capacity = heap.length * 2;
+        heap = Arrays.copyOf(heap, capacity);
+        remaining = Arrays.copyOf(remaining, capacity);
+        sequence = Arrays.copyOf(sequence, capacity);
+    }
+}
@@ -22,11 +22,15 @@ public class SynchronizationManager {
     private final Map<String, Boolean> memoryAvailableMap;
 
     public SynchronizationManager() {
+        this(1);
+    }
+
+    public SynchronizationManager(int cpus) {
         this.schedulerLock = new ReentrantLock();
         this.memoryLock = new ReentrantLock();
         this.memoryReady = memoryLock.newCondition();
         this.schedulerReady = schedulerLock.newCondition();
-        this.cpuSemaphore = new Semaphore(1); // Solo un proceso puede usar la CPU
+        this.cpuSemaphore = new Semaphore(cpus); // Un proceso por núcleo puede usar la CPU
         this.processBlockSemaphores = new HashMap<>();
         this.memoryAvailableMap = new HashMap<>();
     }
@@ -0,0 +1,57 @@
+package simulador.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Formato binario compacto de cargas (little-endian).
+ *
+ * Encabezado del archivo (16 bytes):
+ *   magic "SOWL" | versión (u16) | reservado (u16) | cantidad de procesos (i64, -1 si se desconoce)
+ *
+ * Cada proceso: encabezado de ancho fijo (18 bytes) seguido de datos variables
+ *   llegada (i32) | prioridad (i32) | páginas (i32) | cantidad de ráfagas (i32) | largo del PID (u16)
+ *   PID en UTF-8 | ráfagas como varint sin signo: (duración << 1) | tipo (0 = CPU, 1 = E/S)
+ *
+ * Los procesos se escriben en el orden de entrada; para leerlos en streaming deben estar
+ * ordenados por llegada, igual que con el formato de texto.
+ */
+public final class BinaryWorkloadFormat {
+
+    public static final byte[] MAGIC = {'S', 'O', 'W', 'L'};
+    public static final short VERSION = 1;
+    public static final int FILE_HEADER_SIZE = 16;
+    public static final int COUNT_OFFSET = 8;
+    public static final int PROCESS_HEADER_SIZE = 18;
+    public static final int MAX_VARINT_SIZE = 5;
+    public static final String EXTENSION = ".sowl";
+
+    private BinaryWorkloadFormat() {
+    }
+
+    static int encodeBurst(int duration, boolean io) {
+        return (duration << 1) | (io ? 1 : 0);
+    }
+
+    /**
+     * true si el archivo empieza con la firma del formato binario
+     */
+    public static boolean isBinaryWorkload(Path path) {
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] head = in.readNBytes(MAGIC.length);
+            if (head.length != MAGIC.length) {
+                return false;
+            }
+            for (int i = 0; i < MAGIC.length; i++) {
+                if (head[i] != MAGIC[i]) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
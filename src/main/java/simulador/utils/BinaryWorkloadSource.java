@@ -0,0 +1,163 @@
+package simulador.utils;
+
+import simulador.process.Burst;
+import simulador.process.Process;
+import simulador.process.WorkloadSource;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lee el formato binario de BinaryWorkloadFormat desde un MappedByteBuffer: los campos se
+ * decodifican directamente del mapeo, sin Strings intermedios (solo se crea el PID de cada proceso).
+ * Los archivos grandes se mapean por ventanas que se desplazan a medida que avanza la lectura.
+ * Con requireArrivalOrder un proceso que llega antes que el anterior es un error de lectura.
+ */
+public class BinaryWorkloadSource implements WorkloadSource {
+
+    private static final long WINDOW_SIZE = 64L << 20;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long declaredCount;
+    private final boolean requireArrivalOrder;
+    private int lastArrivalTime = Integer.MIN_VALUE;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long read;
+    private byte[] pidScratch = new byte[32];
+
+    public BinaryWorkloadSource(Path path) throws IOException {
+        this(path, false);
+    }
+
+    public BinaryWorkloadSource(Path path, boolean requireArrivalOrder) throws IOException {
+        this.requireArrivalOrder = requireArrivalOrder;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.fileSize = channel.size();
+            if (fileSize < BinaryWorkloadFormat.FILE_HEADER_SIZE) {
+                throw new IOException("Not a binary workload file: " + path);
+            }
+            map(0);
+            for (byte b : BinaryWorkloadFormat.MAGIC) {
+                if (window.get() != b) {
+                    throw new IOException("Not a binary workload file: " + path);
+                }
+            }
+            short version = window.getShort();
+            if (version != BinaryWorkloadFormat.VERSION) {
+                throw new IOException("Unsupported binary workload version " + version + ": " + path);
+            }
+            window.getShort(); // reservado
+            this.declaredCount = window.getLong();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Cantidad de procesos del encabezado, o -1 si el archivo no se cerró correctamente
+     */
+    public long getDeclaredCount() {
+        return declaredCount;
+    }
+
+    @Override
+    public Process next() throws IOException {
+        if (!channel.isOpen()) {
+            return null;
+        }
+        if (position() >= fileSize || (declaredCount >= 0 && read >= declaredCount)) {
+            close();
+            return null;
+        }
+        long recordStart = position();
+        try {
+            return readProcess(recordStart);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated record at offset " + recordStart, e);
+        }
+    }
+
+    private Process readProcess(long recordStart) throws IOException {
+        ensure(BinaryWorkloadFormat.PROCESS_HEADER_SIZE);
+        int arrivalTime = window.getInt();
+        int priority = window.getInt();
+        int pages = window.getInt();
+        int burstCount = window.getInt();
+        int pidLength = window.getShort() & 0xFFFF;
+        if (burstCount < 0) {
+            throw new IOException("Corrupt record at offset " + recordStart + ": negative burst count");
+        }
+        if (requireArrivalOrder && arrivalTime < lastArrivalTime) {
+            throw new IOException("Error reading record " + (read + 1) + " at offset " + recordStart
+                    + ": arrival time goes backwards (" + arrivalTime + " after " + lastArrivalTime
+                    + "), the file must be sorted by arrival");
+        }
+        lastArrivalTime = arrivalTime;
+
+        ensure(pidLength + (long) burstCount * BinaryWorkloadFormat.MAX_VARINT_SIZE);
+        if (pidScratch.length < pidLength) {
+            pidScratch = new byte[Math.max(pidLength, pidScratch.length * 2)];
+        }
+        window.get(pidScratch, 0, pidLength);
+        String pid = new String(pidScratch, 0, pidLength, StandardCharsets.UTF_8);
+
+        Burst[] bursts = new Burst[burstCount];
+        for (int i = 0; i < burstCount; i++) {
+            int encoded = getVarint(recordStart);
+            int duration = encoded >>> 1;
+            bursts[i] = (encoded & 1) == 0 ? Burst.cpu(duration) : Burst.io(duration);
+        }
+        read++;
+        return new Process(pid, arrivalTime, bursts, priority, pages);
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private long position() {
+        return windowStart + window.position();
+    }
+
+    // Garantiza que queden al menos bytes en la ventana (o todo lo que resta del archivo)
+    private void ensure(long bytes) throws IOException {
+        if (window.remaining() >= bytes || windowStart + window.limit() >= fileSize) {
+            return;
+        }
+        map(position());
+    }
+
+    private void map(long start) throws IOException {
+        long size = Math.min(WINDOW_SIZE, fileSize - start);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        window.order(ByteOrder.LITTLE_ENDIAN);
+        windowStart = start;
+    }
+
+    private int getVarint(long recordStart) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (!window.hasRemaining()) {
+                throw new IOException("Truncated record at offset " + recordStart);
+            }
+            byte b = window.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt varint in record at offset " + recordStart);
+    }
+}
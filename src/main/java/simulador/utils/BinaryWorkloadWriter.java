@@ -0,0 +1,124 @@
+package simulador.utils;
+
+import simulador.process.Burst;
+import simulador.process.Process;
+import simulador.process.WorkloadSource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Escribe procesos en el formato binario de BinaryWorkloadFormat usando un buffer propio;
+ * al cerrar completa la cantidad de procesos en el encabezado.
+ */
+public class BinaryWorkloadWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long count;
+    private boolean closed;
+
+    public BinaryWorkloadWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(BinaryWorkloadFormat.MAGIC);
+        buffer.putShort(BinaryWorkloadFormat.VERSION);
+        buffer.putShort((short) 0);
+        buffer.putLong(-1L);
+    }
+
+    public void write(Process process) throws IOException {
+        byte[] pid = process.getPid().getBytes(StandardCharsets.UTF_8);
+        if (pid.length > 0xFFFF) {
+            throw new IOException("PID too long: " + process.getPid());
+        }
+        int bursts = process.getBurstCount();
+        int maxSize = BinaryWorkloadFormat.PROCESS_HEADER_SIZE + pid.length
+                + bursts * BinaryWorkloadFormat.MAX_VARINT_SIZE;
+        if (buffer.remaining() < maxSize) {
+            flush();
+        }
+        ByteBuffer target = maxSize <= buffer.capacity() ? buffer
+                : ByteBuffer.allocate(maxSize).order(ByteOrder.LITTLE_ENDIAN); // proceso enorme
+        target.putInt(process.getArrivalTime());
+        target.putInt(process.getPriority());
+        target.putInt(process.getPages());
+        target.putInt(bursts);
+        target.putShort((short) pid.length);
+        target.put(pid);
+        for (int i = 0; i < bursts; i++) {
+            Burst burst = process.getBurst(i);
+            putVarint(target, BinaryWorkloadFormat.encodeBurst(burst.getDuration(), burst.isIO()));
+        }
+        if (target != buffer) {
+            target.flip();
+            writeFully(target);
+        }
+        count++;
+    }
+
+    /**
+     * Escribe todos los procesos restantes de la fuente y la cierra
+     */
+    public long writeAll(WorkloadSource source) throws IOException {
+        long written = 0;
+        try (source) {
+            Process process;
+            while ((process = source.next()) != null) {
+                write(process);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+            ByteBuffer countBuffer = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            countBuffer.putLong(count).flip();
+            channel.write(countBuffer, BinaryWorkloadFormat.COUNT_OFFSET);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    // Varint sin signo (LEB128): 7 bits por byte, el bit alto indica que sigue otro byte
+    private static void putVarint(ByteBuffer target, int value) {
+        while ((value & ~0x7F) != 0) {
+            target.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        target.put((byte) value);
+    }
+}
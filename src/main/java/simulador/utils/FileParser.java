@@ -1,7 +1,10 @@
 package simulador.utils;
 
+import simulador.process.Burst;
 import simulador.process.Process;
+import simulador.process.WorkloadSource;
 import java.io.*;
+import java.nio.file.Path;
 import java.util.*;
 
 /**
@@ -16,6 +19,17 @@ public class FileParser {
      */
     public static List<Process> parseProcessFile(String filePath) throws IOException {
         List<Process> processes = new ArrayList<>();
+
+        // Los archivos con la firma del formato binario se leen con su propio lector
+        if (BinaryWorkloadFormat.isBinaryWorkload(Path.of(filePath))) {
+            try (BinaryWorkloadSource source = new BinaryWorkloadSource(Path.of(filePath))) {
+                Process process;
+                while ((process = source.next()) != null) {
+                    processes.add(process);
+                }
+            }
+            return processes;
+        }
         
         try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
             String line;
@@ -42,7 +56,25 @@ public class FileParser {
         return processes;
     }
     
-    private static Process parseLine(String line) {
+    /**
+     * Igual que parseProcessFile, pero mapea el archivo en memoria y procesa bloques de líneas en
+     * paralelo (un hilo por procesador disponible). Pensado para archivos de texto grandes.
+     */
+    public static List<Process> parseProcessFileParallel(String filePath) throws IOException {
+        return parseProcessFileParallel(filePath, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static List<Process> parseProcessFileParallel(String filePath, int parallelism) throws IOException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be >= 1");
+        }
+        if (BinaryWorkloadFormat.isBinaryWorkload(Path.of(filePath))) {
+            return parseProcessFile(filePath);
+        }
+        return ParallelFileParser.parse(filePath, parallelism);
+    }
+
+    static Process parseLine(String line) {
         String[] parts = line.split("\\s+");
         
         if (parts.length < 5) {
@@ -51,27 +83,38 @@ public class FileParser {
         
         String pid = parts[0];
         int arrivalTime = Integer.parseInt(parts[1]);
-        List<String> bursts = parseBursts(parts[2]);
+        Burst[] bursts = parseBursts(parts[2]);
         int priority = Integer.parseInt(parts[3]);
         int pages = Integer.parseInt(parts[4]);
         
         return new Process(pid, arrivalTime, bursts, priority, pages);
     }
     
-    private static List<String> parseBursts(String burstsStr) {
-        List<String> bursts = new ArrayList<>();
+    private static Burst[] parseBursts(String burstsStr) {
+        List<Burst> bursts = new ArrayList<>();
         String[] burstArray = burstsStr.split(",");
         
         for (String burst : burstArray) {
             burst = burst.trim();
             if (!burst.isEmpty()) {
-                bursts.add(burst);
+                bursts.add(Burst.parse(burst));
             }
         }
         
-        return bursts;
+        return bursts.toArray(new Burst[0]);
     }
     
+    /**
+     * Abre un archivo de procesos para leerlo bajo demanda en lugar de cargarlo completo.
+     * El archivo debe estar ordenado por llegada: un proceso fuera de orden es un IOException.
+     */
+    public static WorkloadSource openProcessFile(String filePath) throws IOException {
+        if (BinaryWorkloadFormat.isBinaryWorkload(Path.of(filePath))) {
+            return new BinaryWorkloadSource(Path.of(filePath), true);
+        }
+        return new FileWorkloadSource(filePath, true);
+    }
+
     /**
      * Valida que un archivo tenga el formato correcto
      */
@@ -0,0 +1,73 @@
+package simulador.utils;
+
+import simulador.process.Process;
+import simulador.process.WorkloadSource;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+
+/**
+ * Lee un archivo de procesos línea por línea a medida que el simulador lo pide, con el mismo
+ * formato y los mismos mensajes de error que FileParser.parseProcessFile.
+ * Para el simulador las líneas deben estar en orden de llegada no decreciente; con
+ * requireArrivalOrder un proceso que llega antes que el anterior es un error de lectura.
+ */
+public class FileWorkloadSource implements WorkloadSource {
+
+    private final BufferedReader reader;
+    private final boolean requireArrivalOrder;
+    private int lineNumber;
+    private int lastArrivalTime = Integer.MIN_VALUE;
+    private boolean exhausted;
+
+    public FileWorkloadSource(String filePath) throws IOException {
+        this(filePath, false);
+    }
+
+    public FileWorkloadSource(String filePath, boolean requireArrivalOrder) throws IOException {
+        this.reader = new BufferedReader(new FileReader(filePath));
+        this.requireArrivalOrder = requireArrivalOrder;
+    }
+
+    @Override
+    public Process next() throws IOException {
+        if (exhausted) {
+            return null;
+        }
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+
+            // Ignorar líneas vacías y comentarios
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            Process process;
+            try {
+                process = FileParser.parseLine(line);
+            } catch (Exception e) {
+                throw new IOException("Error parsing line " + lineNumber + ": " + line, e);
+            }
+            if (requireArrivalOrder && process.getArrivalTime() < lastArrivalTime) {
+                // Llegaría tarde a la cola de llegadas: el archivo debe estar ordenado para leerlo en streaming
+                throw new IOException("Error parsing line " + lineNumber + ": arrival time goes backwards ("
+                        + process.getArrivalTime() + " after " + lastArrivalTime + "), the file must be sorted by arrival: "
+                        + line);
+            }
+            lastArrivalTime = process.getArrivalTime();
+            return process;
+        }
+        exhausted = true;
+        reader.close();
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        exhausted = true;
+        reader.close();
+    }
+}
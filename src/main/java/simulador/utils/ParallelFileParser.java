@@ -0,0 +1,325 @@
+package simulador.utils;
+
+import simulador.process.Burst;
+import simulador.process.Process;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Parser paralelo del formato de texto: mapea el archivo en memoria, lo divide en bloques que
+ * terminan en fin de línea y procesa los bloques en paralelo. El resultado (orden de los procesos
+ * y mensaje de error con número de línea) es el mismo que el de FileParser.parseProcessFile.
+ *
+ * Cada línea se decodifica directamente de los bytes; si tiene algo fuera de la forma canónica
+ * (espacios raros, caracteres no ASCII, prefijos "I/O", signos) se pasa como String al parser
+ * original, que decide igual que antes. Esas líneas se decodifican con el charset por defecto,
+ * igual que el FileReader de parseProcessFile.
+ */
+final class ParallelFileParser {
+
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+    private static final long MAX_CHUNK_SIZE = 64L << 20;
+    private static final int BOUNDARY_SCAN = 4096;
+
+    private ParallelFileParser() {
+    }
+
+    static List<Process> parse(String filePath, int parallelism) throws IOException {
+        List<long[]> chunks;
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            chunks = split(channel, parallelism);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try {
+            List<Future<Chunk>> futures = new ArrayList<>(chunks.size());
+            for (long[] bounds : chunks) {
+                Callable<Chunk> task = () -> parseChunk(filePath, bounds[0], bounds[1]);
+                futures.add(pool.submit(task));
+            }
+
+            // Se combinan en orden: el primer error (en orden de archivo) es el que reportaría el parser serial
+            List<Chunk> results = new ArrayList<>(futures.size());
+            int totalProcesses = 0;
+            for (Future<Chunk> future : futures) {
+                Chunk chunk = getResult(future);
+                results.add(chunk);
+                totalProcesses += chunk.processes.size();
+            }
+            List<Process> processes = new ArrayList<>(totalProcesses);
+            int lineOffset = 0;
+            for (Chunk chunk : results) {
+                if (chunk.errorLine >= 0) {
+                    throw new IOException("Error parsing line " + (lineOffset + chunk.errorLine) + ": " + chunk.errorText,
+                            chunk.error);
+                }
+                processes.addAll(chunk.processes);
+                lineOffset += chunk.lines;
+            }
+            return processes;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Chunk getResult(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Error parsing file", cause);
+        }
+    }
+
+    // Límites [inicio, fin) de cada bloque; cada bloque termina justo después de un '\n'
+    private static List<long[]> split(FileChannel channel, int parallelism) throws IOException {
+        long size = channel.size();
+        long target = Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, size / Math.max(1, parallelism * 4L)));
+        List<long[]> chunks = new ArrayList<>();
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN);
+        long start = 0;
+        while (start < size) {
+            long end = Math.min(size, start + target);
+            while (end < size) {
+                scan.clear();
+                int n = channel.read(scan, end);
+                if (n <= 0) {
+                    end = size;
+                    break;
+                }
+                int newline = -1;
+                for (int i = 0; i < n; i++) {
+                    if (scan.get(i) == '\n') {
+                        newline = i;
+                        break;
+                    }
+                }
+                if (newline >= 0) {
+                    end += newline + 1;
+                    break;
+                }
+                end += n;
+            }
+            chunks.add(new long[]{start, Math.min(end, size)});
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static Chunk parseChunk(String filePath, long start, long end) throws IOException {
+        Chunk chunk = new Chunk();
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        }
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            // Fin de línea como en BufferedReader.readLine: "\n", "\r" o "\r\n"
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n' && buffer.get(lineEnd) != '\r') {
+                lineEnd++;
+            }
+            int next = lineEnd;
+            if (next < limit) {
+                next += buffer.get(next) == '\r' && next + 1 < limit && buffer.get(next + 1) == '\n' ? 2 : 1;
+            }
+            chunk.lines++;
+            if (!parseLine(buffer, lineStart, lineEnd, chunk)) {
+                return chunk;
+            }
+            lineStart = next;
+        }
+        return chunk;
+    }
+
+    // Procesa una línea; retorna false si hubo un error (queda registrado en el bloque)
+    private static boolean parseLine(ByteBuffer buffer, int from, int to, Chunk chunk) {
+        // trim() de String: descarta caracteres <= ' ' en los extremos
+        while (from < to && (buffer.get(from) & 0xFF) <= ' ') {
+            from++;
+        }
+        while (to > from && (buffer.get(to - 1) & 0xFF) <= ' ') {
+            to--;
+        }
+        if (from == to || buffer.get(from) == '#') {
+            return true;
+        }
+        Process process = parseCanonical(buffer, from, to);
+        if (process != null) {
+            chunk.processes.add(process);
+            return true;
+        }
+        // Mismo charset que el FileReader del parser serial, para que PIDs y mensajes coincidan
+        String line = new String(copy(buffer, from, to), Charset.defaultCharset());
+        try {
+            chunk.processes.add(FileParser.parseLine(line));
+            return true;
+        } catch (Exception e) {
+            chunk.errorLine = chunk.lines;
+            chunk.errorText = line;
+            chunk.error = e;
+            return false;
+        }
+    }
+
+    /**
+     * Decodifica "PID llegada CPU(n),E/S(n),... prioridad páginas" separado por espacios o tabs.
+     * Retorna null ante cualquier cosa no canónica para que decida el parser original.
+     */
+    private static Process parseCanonical(ByteBuffer buffer, int from, int to) {
+        int[] cursor = {from};
+        int pidEnd = tokenEnd(buffer, from, to);
+        for (int i = from; i < pidEnd; i++) {
+            if (buffer.get(i) <= ' ') {
+                return null; // no ASCII o separador que split("\\s+") también reconoce
+            }
+        }
+        if (pidEnd == to) {
+            return null;
+        }
+        cursor[0] = skipSpaces(buffer, pidEnd, to);
+        long arrival = parseNumber(buffer, cursor, to);
+        if (arrival < 0 || cursor[0] == to || !isSpace(buffer.get(cursor[0]))) {
+            return null;
+        }
+        cursor[0] = skipSpaces(buffer, cursor[0], to);
+        int burstsEnd = tokenEnd(buffer, cursor[0], to);
+        List<Burst> bursts = new ArrayList<>();
+        if (!parseBursts(buffer, cursor[0], burstsEnd, bursts) || burstsEnd == to) {
+            return null;
+        }
+        cursor[0] = skipSpaces(buffer, burstsEnd, to);
+        long priority = parseNumber(buffer, cursor, to);
+        if (priority < 0 || cursor[0] == to || !isSpace(buffer.get(cursor[0]))) {
+            return null;
+        }
+        cursor[0] = skipSpaces(buffer, cursor[0], to);
+        long pages = parseNumber(buffer, cursor, to);
+        if (pages < 0 || cursor[0] != to) {
+            return null; // campos extra: los maneja el parser original
+        }
+        String pid = new String(copy(buffer, from, pidEnd), StandardCharsets.US_ASCII);
+        return new Process(pid, (int) arrival, bursts.toArray(new Burst[0]), (int) priority, (int) pages);
+    }
+
+    // Lista "CPU(4),E/S(3)"; sin espacios internos, sin elementos vacíos
+    private static boolean parseBursts(ByteBuffer buffer, int from, int to, List<Burst> bursts) {
+        int i = from;
+        while (i < to) {
+            boolean cpu;
+            if (matches(buffer, i, to, "CPU(")) {
+                cpu = true;
+                i += 4;
+            } else if (matches(buffer, i, to, "E/S(")) {
+                cpu = false;
+                i += 4;
+            } else {
+                return false;
+            }
+            int[] cursor = {i};
+            long duration = parseNumber(buffer, cursor, to);
+            i = cursor[0];
+            if (duration < 0 || i >= to || buffer.get(i) != ')') {
+                return false;
+            }
+            i++;
+            bursts.add(cpu ? Burst.cpu((int) duration) : Burst.io((int) duration));
+            if (i < to) {
+                if (buffer.get(i) != ',' || i + 1 == to) {
+                    return false;
+                }
+                i++;
+            }
+        }
+        return !bursts.isEmpty();
+    }
+
+    // Entero sin signo de hasta 9 dígitos; -1 si no hay un número válido
+    private static long parseNumber(ByteBuffer buffer, int[] cursor, int to) {
+        int i = cursor[0];
+        long value = 0;
+        int digits = 0;
+        while (i < to) {
+            byte b = buffer.get(i);
+            if (b < '0' || b > '9') {
+                break;
+            }
+            value = value * 10 + (b - '0');
+            digits++;
+            i++;
+        }
+        if (digits == 0 || digits > 9) {
+            return -1;
+        }
+        cursor[0] = i;
+        return value;
+    }
+
+    private static byte[] copy(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(from + i);
+        }
+        return bytes;
+    }
+
+    private static boolean matches(ByteBuffer buffer, int at, int to, String text) {
+        if (to - at < text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (buffer.get(at + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int tokenEnd(ByteBuffer buffer, int from, int to) {
+        int i = from;
+        while (i < to && !isSpace(buffer.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipSpaces(ByteBuffer buffer, int from, int to) {
+        int i = from;
+        while (i < to && isSpace(buffer.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    private static final class Chunk {
+        final List<Process> processes = new ArrayList<>();
+        int lines;
+        int errorLine = -1; // línea (relativa al bloque) del primer error
+        String errorText;
+        Exception error;
+    }
+}
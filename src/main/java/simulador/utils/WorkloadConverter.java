@@ -0,0 +1,32 @@
+package simulador.utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Convierte un archivo de procesos en texto al formato binario compacto (BinaryWorkloadFormat).
+ * La conversión es en streaming, así que sirve para trazas que no caben en memoria.
+ */
+public class WorkloadConverter {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: java simulador.utils.WorkloadConverter <process_file.txt> <output" + BinaryWorkloadFormat.EXTENSION + ">");
+            System.out.println("Example: java simulador.utils.WorkloadConverter procesos.txt procesos" + BinaryWorkloadFormat.EXTENSION);
+            System.exit(1);
+        }
+        long startNanos = System.nanoTime();
+        long written = convert(args[0], Path.of(args[1]));
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        System.out.printf("[WorkloadConverter] Wrote %d processes to %s in %d ms%n", written, args[1], elapsedMs);
+    }
+
+    /**
+     * Convierte textFile en binaryFile y retorna la cantidad de procesos escritos
+     */
+    public static long convert(String textFile, Path binaryFile) throws IOException {
+        try (BinaryWorkloadWriter writer = new BinaryWorkloadWriter(binaryFile)) {
+            return writer.writeAll(new FileWorkloadSource(textFile));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package simulador.workload;
+
+import java.util.SplittableRandom;
+
+/**
+ * Proceso de llegadas: entrega el tiempo entre llegadas consecutivas en unidades de simulación.
+ * Puede tener estado (por ejemplo, si está dentro de una ráfaga), así que cada generador usa
+ * su propia instancia.
+ */
+public interface ArrivalProcess {
+
+    double nextInterarrival(SplittableRandom random);
+
+    /**
+     * Llegadas de Poisson: tiempos entre llegadas exponenciales con la tasa dada (procesos por unidad)
+     */
+    static ArrivalProcess poisson(double rate) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be > 0");
+        }
+        return random -> -Math.log(1.0 - random.nextDouble()) / rate;
+    }
+
+    /**
+     * Llegadas en ráfagas (Poisson modulado por dos estados): fuera de ráfaga llegan a baseRate y
+     * dentro a burstRate. Tras cada llegada se entra a una ráfaga con probabilidad enterBurst y se
+     * sale con probabilidad exitBurst, así la longitud media de una ráfaga es 1 / exitBurst llegadas.
+     */
+    static ArrivalProcess bursty(double baseRate, double burstRate, double enterBurst, double exitBurst) {
+        if (baseRate <= 0 || burstRate <= 0) {
+            throw new IllegalArgumentException("rates must be > 0");
+        }
+        if (enterBurst < 0 || enterBurst > 1 || exitBurst < 0 || exitBurst > 1) {
+            throw new IllegalArgumentException("probabilities must be in [0, 1]");
+        }
+        return new ArrivalProcess() {
+            private boolean inBurst;
+
+            @Override
+            public double nextInterarrival(SplittableRandom random) {
+                double rate = inBurst ? burstRate : baseRate;
+                double gap = -Math.log(1.0 - random.nextDouble()) / rate;
+                inBurst = inBurst ? random.nextDouble() >= exitBurst : random.nextDouble() < enterBurst;
+                return gap;
+            }
+        };
+    }
+
+    /**
+     * Llegadas a intervalo fijo (útil como referencia determinista)
+     */
+    static ArrivalProcess fixed(double interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("interval must be >= 0");
+        }
+        return random -> interval;
+    }
+}
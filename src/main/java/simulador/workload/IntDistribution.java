@@ -0,0 +1,100 @@
+package simulador.workload;
+
+import java.util.SplittableRandom;
+
+/**
+ * Distribución de enteros para duraciones de ráfagas, prioridades y páginas.
+ * Las continuas se redondean al entero más cercano; clamp() acota el resultado.
+ */
+@FunctionalInterface
+public interface IntDistribution {
+
+    int sample(SplittableRandom random);
+
+    /**
+     * Misma distribución, acotada a [min, max]
+     */
+    default IntDistribution clamp(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("min > max");
+        }
+        return random -> Math.max(min, Math.min(max, sample(random)));
+    }
+
+    static IntDistribution constant(int value) {
+        return random -> value;
+    }
+
+    /**
+     * Uniforme en [min, max], ambos incluidos
+     */
+    static IntDistribution uniform(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("min > max");
+        }
+        return random -> random.nextInt(min, max + 1);
+    }
+
+    /**
+     * Exponencial con la media dada
+     */
+    static IntDistribution exponential(double mean) {
+        if (mean <= 0) {
+            throw new IllegalArgumentException("mean must be > 0");
+        }
+        return random -> (int) Math.round(-mean * Math.log(1.0 - random.nextDouble()));
+    }
+
+    /**
+     * Pareto de cola pesada: valor mínimo scale y forma shape (con shape <= 1 la media es infinita)
+     */
+    static IntDistribution pareto(double scale, double shape) {
+        if (scale <= 0 || shape <= 0) {
+            throw new IllegalArgumentException("scale and shape must be > 0");
+        }
+        return random -> (int) Math.min(Integer.MAX_VALUE,
+                Math.round(scale / Math.pow(1.0 - random.nextDouble(), 1.0 / shape)));
+    }
+
+    /**
+     * Mezcla de dos distribuciones: con probabilidad p se usa first, si no second
+     */
+    static IntDistribution bimodal(double p, IntDistribution first, IntDistribution second) {
+        if (p < 0 || p > 1) {
+            throw new IllegalArgumentException("p must be in [0, 1]");
+        }
+        return random -> random.nextDouble() < p ? first.sample(random) : second.sample(random);
+    }
+
+    /**
+     * Valores discretos con pesos relativos (por ejemplo, prioridades 1..5)
+     */
+    static IntDistribution weighted(int[] values, double[] weights) {
+        if (values.length == 0 || values.length != weights.length) {
+            throw new IllegalArgumentException("values and weights must have the same non-zero length");
+        }
+        double[] cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("weights must be >= 0");
+            }
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("weights must not all be zero");
+        }
+        int[] copy = values.clone();
+        double sum = total;
+        return random -> {
+            double u = random.nextDouble() * sum;
+            for (int i = 0; i < cumulative.length; i++) {
+                if (u < cumulative[i]) {
+                    return copy[i];
+                }
+            }
+            return copy[copy.length - 1];
+        };
+    }
+}
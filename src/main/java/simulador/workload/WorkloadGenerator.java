@@ -0,0 +1,171 @@
+package simulador.workload;
+
+import simulador.process.Burst;
+import simulador.process.Process;
+import simulador.process.WorkloadSource;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * Generador de cargas sintéticas reproducibles: con la misma semilla y configuración produce
+ * exactamente la misma secuencia de procesos, en orden de llegada y sin materializarla.
+ * Se conecta directamente al simulador como WorkloadSource (Simulator.loadProcessesFrom).
+ *
+ * Cada proceso alterna ráfagas CPU y E/S empezando y terminando en CPU. Las llegadas, las
+ * ráfagas y los atributos usan flujos aleatorios separados, así cambiar la distribución de
+ * ráfagas no altera los tiempos de llegada.
+ */
+public class WorkloadGenerator implements WorkloadSource {
+
+    private final long count;
+    private final String pidPrefix;
+    private final ArrivalProcess arrivals;
+    private final IntDistribution cpuBurstCount;
+    private final IntDistribution cpuBursts;
+    private final IntDistribution ioBursts;
+    private final IntDistribution priorities;
+    private final IntDistribution pages;
+    private final SplittableRandom arrivalRandom;
+    private final SplittableRandom burstRandom;
+    private final SplittableRandom attributeRandom;
+    private long generated;
+    private double clock; // tiempo de llegada acumulado (continuo)
+
+    private WorkloadGenerator(Builder builder) {
+        this.count = builder.count;
+        this.pidPrefix = builder.pidPrefix;
+        this.arrivals = builder.arrivals;
+        this.cpuBurstCount = builder.cpuBurstCount;
+        this.cpuBursts = builder.cpuBursts;
+        this.ioBursts = builder.ioBursts;
+        this.priorities = builder.priorities;
+        this.pages = builder.pages;
+        SplittableRandom root = new SplittableRandom(builder.seed);
+        this.arrivalRandom = root.split();
+        this.burstRandom = root.split();
+        this.attributeRandom = root.split();
+        this.clock = builder.startTime;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Siguiente proceso, o null cuando ya se generaron count procesos
+     */
+    @Override
+    public Process next() {
+        if (generated >= count) {
+            return null;
+        }
+        generated++;
+        if (generated > 1) {
+            clock += arrivals.nextInterarrival(arrivalRandom);
+        }
+        int arrivalTime = (int) Math.min(Integer.MAX_VALUE, Math.floor(clock));
+
+        int cpuCount = Math.max(1, cpuBurstCount.sample(burstRandom));
+        Burst[] bursts = new Burst[cpuCount * 2 - 1];
+        for (int i = 0; i < bursts.length; i++) {
+            bursts[i] = i % 2 == 0
+                    ? Burst.cpu(Math.max(1, cpuBursts.sample(burstRandom)))
+                    : Burst.io(Math.max(1, ioBursts.sample(burstRandom)));
+        }
+        int priority = priorities.sample(attributeRandom);
+        int pageCount = Math.max(1, pages.sample(attributeRandom));
+        return new Process(pidPrefix + generated, arrivalTime, bursts, priority, pageCount);
+    }
+
+    public long getGeneratedCount() {
+        return generated;
+    }
+
+    /**
+     * Los procesos restantes como Stream (perezoso)
+     */
+    public Stream<Process> stream() {
+        return Stream.generate(this::next).takeWhile(Objects::nonNull);
+    }
+
+    /**
+     * Configuración del generador; los valores por defecto dan una carga moderada
+     */
+    public static class Builder {
+        private long seed = 1L;
+        private long count = 1000;
+        private String pidPrefix = "P";
+        private double startTime = 0;
+        private ArrivalProcess arrivals = ArrivalProcess.poisson(0.1);
+        private IntDistribution cpuBurstCount = IntDistribution.uniform(1, 3);
+        private IntDistribution cpuBursts = IntDistribution.exponential(4);
+        private IntDistribution ioBursts = IntDistribution.exponential(3);
+        private IntDistribution priorities = IntDistribution.uniform(1, 5);
+        private IntDistribution pages = IntDistribution.uniform(1, 8);
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder count(long count) {
+            if (count < 0) {
+                throw new IllegalArgumentException("count must be >= 0");
+            }
+            this.count = count;
+            return this;
+        }
+
+        public Builder pidPrefix(String pidPrefix) {
+            this.pidPrefix = Objects.requireNonNull(pidPrefix);
+            return this;
+        }
+
+        public Builder startTime(double startTime) {
+            this.startTime = startTime;
+            return this;
+        }
+
+        /**
+         * El proceso de llegadas puede tener estado: no compartir la misma instancia entre generadores
+         */
+        public Builder arrivals(ArrivalProcess arrivals) {
+            this.arrivals = Objects.requireNonNull(arrivals);
+            return this;
+        }
+
+        /**
+         * Cantidad de ráfagas CPU por proceso (entre cada par hay una ráfaga de E/S)
+         */
+        public Builder cpuBurstCount(IntDistribution cpuBurstCount) {
+            this.cpuBurstCount = Objects.requireNonNull(cpuBurstCount);
+            return this;
+        }
+
+        public Builder cpuBursts(IntDistribution cpuBursts) {
+            this.cpuBursts = Objects.requireNonNull(cpuBursts);
+            return this;
+        }
+
+        public Builder ioBursts(IntDistribution ioBursts) {
+            this.ioBursts = Objects.requireNonNull(ioBursts);
+            return this;
+        }
+
+        public Builder priorities(IntDistribution priorities) {
+            this.priorities = Objects.requireNonNull(priorities);
+            return this;
+        }
+
+        public Builder pages(IntDistribution pages) {
+            this.pages = Objects.requireNonNull(pages);
+            return this;
+        }
+
+        public WorkloadGenerator build() {
+            return new WorkloadGenerator(this);
+        }
+    }
+}